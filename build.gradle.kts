@@ -6,6 +6,8 @@ plugins {
 	id("org.springframework.boot") version "4.0.1"
 	id("io.spring.dependency-management") version "1.1.7"
 	id("com.google.protobuf") version "0.9.4"
+	id("me.champeau.jmh") version "0.7.3"
+	id("org.graalvm.buildtools.native") version "0.11.1" apply false
 }
 
 group = "com.devoops"
@@ -22,6 +24,31 @@ repositories {
 	mavenCentral()
 }
 
+// ./gradlew build -Paot adds Spring AOT-generated bean definitions to the boot jar, which the
+// Dockerfile runs when built with --build-arg SPRING_AOT_ENABLED=true. Bean conditions are evaluated
+// during the build, so DATASOURCE_REPLICA_URL and VIRTUAL_THREADS_ENABLED must be set for the build
+// and no longer switch anything at runtime. CI and the default image therefore stay non-AOT.
+val aotEnabled = providers.gradleProperty("aot").isPresent
+if (aotEnabled) {
+	apply(plugin = "org.springframework.boot.aot")
+}
+
+// ./gradlew nativeCompile -Pnative builds build/native/nativeCompile/user with GraalVM (which also
+// applies Spring AOT); ./gradlew nativeIntegrationTest -Pnative then exercises that executable.
+val nativeEnabled = providers.gradleProperty("native").isPresent
+val nativeExecutable = layout.buildDirectory.file("native/nativeCompile/${project.name}")
+if (nativeEnabled) {
+	apply(plugin = "org.graalvm.buildtools.native")
+	configure<org.graalvm.buildtools.gradle.dsl.GraalVMExtension> {
+		binaries.named("main") {
+			imageName = project.name
+		}
+		metadataRepository {
+			enabled = true
+		}
+	}
+}
+
 val grpcVersion = "1.68.0"
 
 dependencies {
@@ -30,6 +57,9 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-actuator")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 
+	// Caching
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
 	// Prometheus
 	implementation("io.micrometer:micrometer-registry-prometheus")
 
@@ -86,6 +116,7 @@ dependencies {
 	testImplementation("org.springframework.amqp:spring-rabbit-test")
 	testImplementation("org.testcontainers:rabbitmq:1.20.4")
 	testImplementation("io.rest-assured:rest-assured:5.5.0")
+	testImplementation("io.grpc:grpc-inprocess:$grpcVersion")
 
 	testCompileOnly("org.projectlombok:lombok")
 	testAnnotationProcessor("org.projectlombok:lombok")
@@ -95,9 +126,93 @@ dependencies {
 
 tasks.withType<Test> {
 	useJUnitPlatform()
+}
+
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("benchmark", "native", "load")
+	}
 	finalizedBy(tasks.jacocoTestReport)
 }
 
+// Data-generating performance benchmarks against real containers; slow, so run on demand
+val benchmarkTest by tasks.registering(Test::class) {
+	description = "Runs the performance benchmarks tagged 'benchmark'."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("benchmark")
+	}
+	testLogging {
+		showStandardStreams = true
+	}
+	// The startup and threading mode benchmarks launch the boot jar themselves
+	dependsOn(tasks.bootJar)
+	systemProperty("startup.benchmark.jar", tasks.bootJar.get().archiveFile.get().asFile.absolutePath)
+	systemProperty("startup.benchmark.aot", aotEnabled)
+	systemProperty("startup.benchmark.native", nativeExecutable.get().asFile.absolutePath)
+	shouldRunAfter(tasks.test)
+}
+
+// Runs the native executable against real containers; build it first with -Pnative
+val nativeIntegrationTest by tasks.registering(Test::class) {
+	description = "Runs the integration tests tagged 'native' against the native executable."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("native")
+	}
+	if (nativeEnabled) {
+		dependsOn("nativeCompile")
+	}
+	systemProperty("native.executable", nativeExecutable.get().asFile.absolutePath)
+	shouldRunAfter(tasks.test)
+}
+
+// End-to-end load test against real containers, compared with the baseline in src/test/load
+val loadTest by tasks.registering(Test::class) {
+	description = "Runs the load test tagged 'load' and compares it with the stored baseline."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("load")
+	}
+	testLogging {
+		showStandardStreams = true
+	}
+	mapOf(
+		"loadConcurrency" to "load.concurrency",
+		"loadWarmup" to "load.warmup",
+		"loadDuration" to "load.duration",
+		"loadMix" to "load.mix",
+		"loadUsers" to "load.users",
+		"loadTolerance" to "load.tolerance",
+		"loadMaxErrorRate" to "load.max-error-rate"
+	).forEach { (gradleProperty, systemProperty) ->
+		providers.gradleProperty(gradleProperty).orNull?.let { systemProperty(systemProperty, it) }
+	}
+	systemProperty("load.baseline", layout.projectDirectory.file("src/test/load/baseline.json").asFile.absolutePath)
+	systemProperty("load.results", layout.buildDirectory.file("results/load/results.json").get().asFile.absolutePath)
+	systemProperty("load.update-baseline", providers.gradleProperty("loadUpdateBaseline").isPresent)
+	// Results depend on the baseline and the properties above, never reuse a previous run
+	outputs.upToDateWhen { false }
+	shouldRunAfter(tasks.test)
+}
+
+// Each benchmark class declares its own modes and time unit (the hot-path benchmarks add the
+// sampled latency distribution, p50..p99.99); the gc profiler adds the allocation rate. Results
+// are written as JSON for comparison between runs; narrow down with -PjmhIncludes=<regex>
+jmh {
+	jmhVersion = "1.37"
+	profilers = listOf("gc")
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+	providers.gradleProperty("jmhIncludes").orNull?.let { includes = listOf(it) }
+}
+
 tasks.jacocoTestReport {
 	dependsOn(tasks.test)
 	reports {
@@ -0,0 +1,77 @@
+package com.devoops.user.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out of concurrent blocking calls, as when other services resolve a listing page of users,
+ * on the request executors of both threading modes: Tomcat's default 200 platform worker threads
+ * and one virtual thread per task ({@code spring.threads.virtual.enabled=true}).
+ * <p>
+ * Each call sleeps to simulate a JDBC round trip or blocking gRPC stub, then does a little CPU work.
+ * Run with {@code ./gradlew jmh}; results are reported in milliseconds per fan-out. This isolates
+ * the executors; {@code ThreadingModeBenchmarkTest} compares both modes on the real endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutorModeBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"100", "1000"})
+    public int concurrentCalls;
+
+    @Param({"5"})
+    public long blockingMillis;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        executor = switch (mode) {
+            case "platform" -> Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+            case "virtual" -> Executors.newVirtualThreadPerTaskExecutor();
+            default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public void fanOut(Blackhole blackhole) throws InterruptedException, ExecutionException {
+        List<Future<Long>> futures = new ArrayList<>(concurrentCalls);
+        for (int i = 0; i < concurrentCalls; i++) {
+            futures.add(executor.submit(this::blockingCall));
+        }
+        for (Future<Long> future : futures) {
+            blackhole.consume(future.get());
+        }
+    }
+
+    private long blockingCall() throws InterruptedException {
+        Thread.sleep(blockingMillis);
+        long hash = 17;
+        for (int i = 0; i < 1_000; i++) {
+            hash = 31 * hash + i;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,146 @@
+package com.devoops.user.grpc;
+
+import com.devoops.user.config.ReadYourWritesWindow;
+import com.devoops.user.grpc.proto.GetUserSummaryRequest;
+import com.devoops.user.grpc.proto.GetUserSummaryResponse;
+import com.devoops.user.repository.UserRepository;
+import com.devoops.user.repository.projection.UserSummaryView;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-side cost of {@link UserGrpcService#getUserSummary}, without the transport, against an
+ * in-memory repository: request parsing, the summary cache, the read-your-writes check and
+ * building the response message. {@code hit} serves every call from the cache, {@code miss}
+ * evicts the entry first so each call loads and builds the summary again.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=UserGrpcServiceBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserGrpcServiceBenchmark {
+
+    private static final int USERS = 1_000;
+
+    @Param({"hit", "miss"})
+    public String cache;
+
+    private UserGrpcService userGrpcService;
+    private UserSummaryCache userSummaryCache;
+    private UUID[] userIds;
+    private GetUserSummaryRequest[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Map<UUID, UserSummaryView> users = new HashMap<>();
+        userIds = new UUID[USERS];
+        requests = new GetUserSummaryRequest[USERS];
+        for (int i = 0; i < USERS; i++) {
+            UUID id = UUID.randomUUID();
+            users.put(id, new Summary(id, "user" + i + "@example.com", "First" + i, "Last" + i, "GUEST", false));
+            userIds[i] = id;
+            requests[i] = GetUserSummaryRequest.newBuilder().setUserId(id.toString()).build();
+        }
+
+        userSummaryCache = new UserSummaryCache(10_000, 300_000, 30_000, new SimpleMeterRegistry());
+        userGrpcService = new UserGrpcService(inMemoryRepository(users), userSummaryCache, new ReadYourWritesWindow(5_000));
+    }
+
+    @Benchmark
+    public void getUserSummary(Blackhole blackhole) {
+        int index = next++ % USERS;
+        if ("miss".equals(cache)) {
+            userSummaryCache.invalidate(userIds[index]);
+        }
+        userGrpcService.getUserSummary(requests[index], new BlackholeObserver(blackhole));
+    }
+
+    // Answers the two summary queries from the map and Object's methods; any other repository
+    // method means the benchmarked path changed and this stub needs to learn it
+    @SuppressWarnings("unchecked")
+    private static UserRepository inMemoryRepository(Map<UUID, UserSummaryView> users) {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findSummaryById" -> Optional.ofNullable(users.get((UUID) args[0]));
+                    case "findSummariesByIdIn" -> ((Collection<UUID>) args[0]).stream()
+                            .map(users::get)
+                            .filter(Objects::nonNull)
+                            .toList();
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "InMemoryUserRepository[" + users.size() + " users]";
+                    default -> throw new IllegalStateException("The in-memory UserRepository of "
+                            + "UserGrpcServiceBenchmark does not implement " + method.getName()
+                            + "; add it to inMemoryRepository()");
+                });
+    }
+
+    private record Summary(UUID id, String email, String firstName, String lastName, String role, boolean deleted)
+            implements UserSummaryView {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+
+        @Override
+        public String getFirstName() {
+            return firstName;
+        }
+
+        @Override
+        public String getLastName() {
+            return lastName;
+        }
+
+        @Override
+        public String getRole() {
+            return role;
+        }
+
+        @Override
+        public boolean isDeleted() {
+            return deleted;
+        }
+    }
+
+    private record BlackholeObserver(Blackhole blackhole) implements StreamObserver<GetUserSummaryResponse> {
+
+        @Override
+        public void onNext(GetUserSummaryResponse response) {
+            blackhole.consume(response);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            throw new IllegalStateException(t);
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+}
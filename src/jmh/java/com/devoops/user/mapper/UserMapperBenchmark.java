@@ -0,0 +1,58 @@
+package com.devoops.user.mapper;
+
+import com.devoops.user.dto.response.UserResponse;
+import com.devoops.user.entity.Role;
+import com.devoops.user.entity.User;
+import com.devoops.user.repository.projection.UserProfileView;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping cost of the MapStruct-generated {@link UserMapper}, which runs on every profile,
+ * login and registration response, from the managed entity and from the profile projection.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=UserMapperBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    private final UserMapper userMapper = new UserMapperImpl();
+
+    private User user;
+    private UserProfileView profile;
+
+    @Setup
+    public void setUp() {
+        UUID id = UUID.randomUUID();
+        user = User.builder()
+                .id(id)
+                .username("benchmark")
+                .password("{bcrypt}$2a$10$abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0")
+                .email("benchmark@example.com")
+                .firstName("Bench")
+                .lastName("Mark")
+                .residence("Belgrade")
+                .role(Role.GUEST)
+                .build();
+        profile = new UserProfileView(id, "benchmark", "benchmark@example.com", "Bench", "Mark", "Belgrade",
+                Role.GUEST, LocalDateTime.now());
+    }
+
+    @Benchmark
+    public UserResponse toUserResponseFromEntity() {
+        return userMapper.toUserResponse(user);
+    }
+
+    @Benchmark
+    public UserResponse toUserResponseFromProjection() {
+        return userMapper.toUserResponse(profile);
+    }
+}
@@ -0,0 +1,98 @@
+package com.devoops.user.security;
+
+import com.devoops.user.entity.Role;
+import com.devoops.user.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Token throughput of {@link JwtService} compared with the previous implementation,
+ * which derived the HMAC key and built a new parser on every call.
+ * <p>
+ * Run with {@code ./gradlew jmh}; results are reported in tokens per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET_KEY = "dGhpcyBpcyBhIHZlcnkgc2VjdXJlIGtleSBmb3IgSFMyNTYgdGhhdCBpcyBhdCBsZWFzdCAyNTYgYml0cyBsb25n";
+    private static final long EXPIRATION_TIME = 86400000L;
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET_KEY, EXPIRATION_TIME);
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .username("benchmark")
+                .email("benchmark@example.com")
+                .role(Role.GUEST)
+                .build();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public ValidatedToken parseToken() {
+        return jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    public Claims extractAllClaims() {
+        return jwtService.extractClaim(token, Function.identity());
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public String generateTokenWithPerCallKey() {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .claims(Map.of(
+                        "userId", user.getId().toString(),
+                        "email", user.getEmail(),
+                        "role", user.getRole().name()))
+                .subject(user.getUsername())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + EXPIRATION_TIME))
+                .signWith(perCallKey(), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims parseTokenWithPerCallParser() {
+        return Jwts.parser()
+                .verifyWith(perCallKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static SecretKey perCallKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+    }
+}
@@ -3,8 +3,14 @@ package com.devoops.user;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// GrpcMetricsConfig installs the observation interceptors itself, so the starter's copies would time and trace every call twice
+@SpringBootApplication(excludeName = {
+		"net.devh.boot.grpc.server.autoconfigure.GrpcServerMicrometerTraceAutoConfiguration",
+		"net.devh.boot.grpc.client.autoconfigure.GrpcClientMicrometerTraceAutoConfiguration"
+})
+@EnableScheduling
 public class UserApplication {
 
 	public static void main(String[] args) {
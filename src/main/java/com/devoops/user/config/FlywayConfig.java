@@ -0,0 +1,30 @@
+package com.devoops.user.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Slf4j
+public class FlywayConfig {
+
+    /**
+     * {@code spring.flyway.enabled} is a bean condition, so in a jar built with {@code -Paot} it
+     * is fixed when the jar is built. This switch is read when the context starts instead, which
+     * lets the AOT cache training run skip the migrations, and their database connection, for
+     * AOT-processed jars too.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${flyway.migrate-on-startup:true}") boolean migrateOnStartup) {
+        return flyway -> {
+            if (migrateOnStartup) {
+                flyway.migrate();
+            } else {
+                log.info("Skipping Flyway migrations on startup");
+            }
+        };
+    }
+}
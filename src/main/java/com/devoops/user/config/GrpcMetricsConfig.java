@@ -0,0 +1,56 @@
+package com.devoops.user.config;
+
+import com.devoops.user.metrics.GrpcPayloadSizeInterceptor;
+import io.grpc.ClientInterceptor;
+import io.grpc.ServerInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.grpc.ObservationGrpcClientInterceptor;
+import io.micrometer.core.instrument.binder.grpc.ObservationGrpcServerInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+import net.devh.boot.grpc.client.interceptor.GrpcGlobalClientInterceptor;
+import net.devh.boot.grpc.common.util.InterceptorOrder;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Instruments every gRPC call served by {@link com.devoops.user.grpc.UserGrpcService} and made
+ * through the {@code @GrpcClient} stubs.
+ * <p>
+ * The observation interceptors produce the {@code grpc.server} and {@code grpc.client} timers
+ * tagged with {@code rpc.service}, {@code rpc.method} and {@code grpc.status_code}, the matching
+ * {@code .active} long task timers for calls in flight, and a Brave span per call. The client
+ * injects the current trace context into the call metadata and the server continues it, so a
+ * slow reservation listing shows up as one trace across both services.
+ * <p>
+ * The gRPC starters register the same observation interceptors through their own Micrometer
+ * trace auto-configurations; {@link com.devoops.user.UserApplication} excludes those so each
+ * call is timed and traced once, with the payload size interceptors ordered right after.
+ */
+@Configuration(proxyBeanMethods = false)
+public class GrpcMetricsConfig {
+
+    @GrpcGlobalServerInterceptor
+    @Order(InterceptorOrder.ORDER_TRACING_METRICS)
+    ServerInterceptor observationGrpcServerInterceptor(ObservationRegistry observationRegistry) {
+        return new ObservationGrpcServerInterceptor(observationRegistry);
+    }
+
+    @GrpcGlobalServerInterceptor
+    @Order(InterceptorOrder.ORDER_TRACING_METRICS + 1)
+    ServerInterceptor payloadSizeGrpcServerInterceptor(MeterRegistry meterRegistry) {
+        return GrpcPayloadSizeInterceptor.server(meterRegistry);
+    }
+
+    @GrpcGlobalClientInterceptor
+    @Order(InterceptorOrder.ORDER_TRACING_METRICS)
+    ClientInterceptor observationGrpcClientInterceptor(ObservationRegistry observationRegistry) {
+        return new ObservationGrpcClientInterceptor(observationRegistry);
+    }
+
+    @GrpcGlobalClientInterceptor
+    @Order(InterceptorOrder.ORDER_TRACING_METRICS + 1)
+    ClientInterceptor payloadSizeGrpcClientInterceptor(MeterRegistry meterRegistry) {
+        return GrpcPayloadSizeInterceptor.client(meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.devoops.user.config;
+
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@Slf4j
+public class GrpcServerConfig {
+
+    /**
+     * Virtual thread per gRPC call, closed with the context after the gRPC server has stopped.
+     * Not a default candidate, so it is only injected by name and does not make Spring Boot
+     * back off from its own {@code applicationTaskExecutor}.
+     */
+    @Bean(destroyMethod = "close", defaultCandidate = false)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ExecutorService grpcServerExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("grpc-vt-", 0).factory());
+    }
+
+    /**
+     * With {@code spring.threads.virtual.enabled=true}, Tomcat already runs requests on virtual
+     * threads; this does the same for the gRPC server, whose calls otherwise run on grpc-java's
+     * unbounded cached platform thread pool and block on JDBC and downstream stubs.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public GrpcServerConfigurer virtualThreadGrpcServerConfigurer(
+            @Qualifier("grpcServerExecutor") ExecutorService grpcServerExecutor
+    ) {
+        log.info("Running gRPC server calls on virtual threads");
+        return serverBuilder -> serverBuilder.executor(grpcServerExecutor);
+    }
+}
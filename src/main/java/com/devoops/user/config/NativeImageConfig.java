@@ -0,0 +1,101 @@
+package com.devoops.user.config;
+
+import com.devoops.user.dto.message.UserCreatedMessage;
+import com.devoops.user.dto.response.AdminUserResponse;
+import com.devoops.user.dto.response.UserBatchEntry;
+import com.devoops.user.dto.response.UserResponse;
+import com.devoops.user.grpc.AccommodationGrpcClient;
+import com.devoops.user.grpc.ReservationGrpcClient;
+import com.devoops.user.grpc.proto.accommodation.AccommodationInternalServiceGrpc;
+import com.devoops.user.grpc.proto.reservation.ReservationInternalServiceGrpc;
+import com.devoops.user.repository.projection.UserProfileView;
+import com.google.protobuf.GeneratedMessageV3;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the native image, for what Spring AOT cannot infer on its
+ * own. Entities, repositories, controller payloads and beans such as the MapStruct-generated
+ * {@code UserMapperImpl} are handled by AOT; Hibernate, Jackson, gRPC, Caffeine and jjwt bring
+ * further metadata through the GraalVM reachability metadata repository.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeImageConfig.Hints.class)
+@RegisterReflectionForBinding({
+        // Serialized outside Spring MVC's return value handling or by the RabbitMQ converter
+        UserResponse.class, UserBatchEntry.class, AdminUserResponse.class, UserCreatedMessage.class
+})
+public class NativeImageConfig {
+
+    private static final String PROTO_PACKAGE = "com.devoops.user.grpc.proto";
+
+    // jjwt-api loads its implementation classes by name
+    private static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms"
+    );
+
+    // Instantiated and configured by Logback from logback-spring.xml
+    private static final List<String> LOGBACK_COMPONENTS = List.of(
+            "net.logstash.logback.appender.LogstashTcpSocketAppender",
+            "net.logstash.logback.encoder.LogstashEncoder",
+            "ch.qos.logback.classic.AsyncAppender"
+    );
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // JPQL constructor expressions are instantiated reflectively by Hibernate
+            hints.reflection().registerType(UserProfileView.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.reflection().registerType(UserResponse.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            // @GrpcClient stubs are injected into fields and created through the generated factory methods
+            hints.reflection().registerType(ReservationGrpcClient.class, MemberCategory.DECLARED_FIELDS);
+            hints.reflection().registerType(AccommodationGrpcClient.class, MemberCategory.DECLARED_FIELDS);
+            hints.reflection().registerType(ReservationInternalServiceGrpc.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.reflection().registerType(AccommodationInternalServiceGrpc.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+            registerProtobufMessages(hints, classLoader);
+            JJWT_IMPLEMENTATIONS.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+            LOGBACK_COMPONENTS.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+        }
+
+        /**
+         * Protobuf resolves field accessors of generated messages and their builders reflectively,
+         * e.g. for {@code toString()} and {@code equals()}. The message classes are found by
+         * scanning the generated package while the hints are computed at build time.
+         */
+        private static void registerProtobufMessages(RuntimeHints hints, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.addIncludeFilter(new AssignableTypeFilter(GeneratedMessageV3.class));
+            for (BeanDefinition candidate : scanner.findCandidateComponents(PROTO_PACKAGE)) {
+                Class<?> message = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+                hints.reflection().registerType(message, MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS);
+                for (Class<?> nested : message.getDeclaredClasses()) {
+                    hints.reflection().registerType(nested, MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS);
+                }
+            }
+        }
+    }
+}
@@ -1,15 +1,78 @@
 package com.devoops.user.config;
 
+import com.devoops.user.security.BoundedPasswordEncoder;
+import com.devoops.user.security.StrengthAwareBCryptPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class PasswordEncoderConfig {
 
+    private static final String BCRYPT = "bcrypt";
+
+    @Value("${password.encoder.algorithm:bcrypt}")
+    private String algorithm;
+
+    @Value("${password.encoder.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${password.hashing.pool-size:0}")
+    private int poolSize;
+
+    @Value("${password.hashing.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Value("${password.hashing.queue-timeout-ms:2000}")
+    private long queueTimeoutMs;
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(
+                delegatingPasswordEncoder(),
+                passwordHashingExecutor(),
+                Duration.ofMillis(queueTimeoutMs),
+                meterRegistry
+        );
+    }
+
+    /**
+     * Hashes are stored as {@code {algorithm}hash}, e.g. {@code {bcrypt}$2a$10$...}, where BCrypt
+     * additionally embeds its cost. Hashes written before the prefix existed are plain BCrypt
+     * and are re-hashed with the current algorithm and cost on the next successful login.
+     */
+    private PasswordEncoder delegatingPasswordEncoder() {
+        PasswordEncoder bcrypt = new StrengthAwareBCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                BCRYPT, bcrypt,
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()
+        );
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    // Deliberately not exposed as a bean, so it never replaces Spring's applicationTaskExecutor
+    private ThreadPoolExecutor passwordHashingExecutor() {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
     }
 }
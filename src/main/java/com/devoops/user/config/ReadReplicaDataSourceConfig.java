@@ -0,0 +1,86 @@
+package com.devoops.user.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Active only when {@code datasource.replica.url} is set; otherwise Spring Boot configures the
+ * single {@code spring.datasource.*} pool as usual.
+ * <p>
+ * Both pools are registered as beans of their own, so the actuator reports health and Hikari
+ * metrics per pool ({@code primary} and {@code replica}). The primary, routing data source is
+ * what JPA, Flyway and JDBC templates use.
+ * <p>
+ * Defining the data source here turns off Boot's pooled data source, so both pools are built the
+ * way Boot would build them: the primary from {@code spring.datasource.*} and
+ * {@code spring.datasource.hikari.*}, the replica from {@code datasource.replica.*} and
+ * {@code datasource.replica.hikari.*}. The replica falls back to the primary's credentials and
+ * driver when it does not set its own.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.url")
+@Slf4j
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            @Qualifier("primaryDataSourceProperties") DataSourceProperties properties
+    ) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties properties,
+            @Qualifier("primaryDataSourceProperties") DataSourceProperties primaryProperties
+    ) {
+        if (properties.getUsername() == null) {
+            properties.setUsername(primaryProperties.determineUsername());
+            properties.setPassword(primaryProperties.determinePassword());
+        }
+        if (properties.getDriverClassName() == null) {
+            properties.setDriverClassName(primaryProperties.getDriverClassName());
+        }
+        HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource
+    ) {
+        log.info("Routing read-only transactions to the read replica");
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+}
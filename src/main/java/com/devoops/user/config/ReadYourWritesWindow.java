@@ -0,0 +1,68 @@
+package com.devoops.user.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Keeps reads of recently modified users on the primary for a short window, so a replica that is
+ * still catching up cannot serve, or get cached, the state from before the write.
+ * <p>
+ * The window is tracked per instance and should exceed the usual replication lag. Without a
+ * replica every read goes to the primary anyway and this has no effect.
+ */
+@Component
+public class ReadYourWritesWindow {
+
+    private final Cache<UUID, Boolean> recentWrites;
+
+    public ReadYourWritesWindow(@Value("${datasource.replica.read-your-writes-window-ms:5000}") long windowMs) {
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(windowMs))
+                .build();
+    }
+
+    /**
+     * Open the window for a user. When called inside a transaction it is opened again after commit,
+     * so the window is measured from the moment the change becomes visible.
+     */
+    public void recordWrite(UUID userId) {
+        recentWrites.put(userId, Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWrites.put(userId, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    /**
+     * Run a read of the given user, on the primary if the user was modified within the window.
+     */
+    public <T> T read(UUID userId, Supplier<T> reader) {
+        return isRecentlyWritten(userId) ? ReplicaRoutingDataSource.onPrimary(reader) : reader.get();
+    }
+
+    /**
+     * Run a read of several users, on the primary if any of them was modified within the window.
+     */
+    public <T> T read(Collection<? extends UUID> userIds, Supplier<T> reader) {
+        boolean anyRecent = userIds.stream().anyMatch(this::isRecentlyWritten);
+        return anyRecent ? ReplicaRoutingDataSource.onPrimary(reader) : reader.get();
+    }
+
+    boolean isRecentlyWritten(UUID userId) {
+        return recentWrites.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,170 @@
+package com.devoops.user.controller;
+
+import com.devoops.user.config.AsyncTimeoutInterceptor;
+import com.devoops.user.config.RequireRole;
+import com.devoops.user.dto.request.UserListFilter;
+import com.devoops.user.dto.response.AdminUserResponse;
+import com.devoops.user.dto.response.UserPageResponse;
+import com.devoops.user.dto.response.UserSearchResponse;
+import com.devoops.user.entity.Role;
+import com.devoops.user.exception.InvalidRequestParameterException;
+import com.devoops.user.service.AdminUserService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * User listing, export and search for support staff. Requires the {@code ADMIN} role, which is
+ * assigned in the database and never at registration (see {@code V7__add_admin_role.sql}).
+ */
+@RestController
+@RequestMapping("/api/user/admin/users")
+@RequireRole("ADMIN")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    // Leading characters that make spreadsheet applications treat a cell as a formula
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private static final String CSV_HEADER =
+            "id,username,email,first_name,last_name,residence,role,deleted,created_at,updated_at";
+
+    private final AdminUserService adminUserService;
+    private final JsonMapper jsonMapper;
+
+    @Value("${admin.users.export.timeout-ms:600000}")
+    private long exportTimeoutMs;
+
+    @GetMapping
+    public ResponseEntity<UserPageResponse> listUsers(
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) Boolean deleted,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return ResponseEntity.ok(adminUserService.listUsers(new UserListFilter(role, deleted), cursor, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<UserSearchResponse> searchUsers(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(adminUserService.searchUsers(query, page, size));
+    }
+
+    /**
+     * Export every matching user as newline-delimited JSON or CSV, written while rows are read.
+     * Only this response gets the long {@code admin.users.export.timeout-ms}.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) Boolean deleted,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request
+    ) {
+        UserListFilter filter = new UserListFilter(role, deleted);
+        String normalizedFormat = format.toLowerCase(Locale.ROOT);
+        StreamingResponseBody body = switch (normalizedFormat) {
+            case "ndjson" -> outputStream -> writeNdjson(filter, outputStream);
+            case "csv" -> outputStream -> writeCsv(filter, new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            default -> throw new InvalidRequestParameterException("Unsupported export format: " + format);
+        };
+        request.setAttribute(AsyncTimeoutInterceptor.TIMEOUT_ATTRIBUTE, exportTimeoutMs);
+
+        return ResponseEntity.ok()
+                .contentType(normalizedFormat.equals("csv") ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("users." + normalizedFormat)
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    // The servlet container owns the response stream, so the generator must not close it, and
+    // rows are left to fill the response buffer instead of being flushed one by one
+    private void writeNdjson(UserListFilter filter, OutputStream outputStream) {
+        try (JsonGenerator generator = jsonMapper.writer()
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                // Records are separated by the explicit newline only
+                .withRootValueSeparator((String) null)
+                .createGenerator(outputStream)) {
+            adminUserService.exportUsers(filter, user -> {
+                generator.writePOJO(user);
+                generator.writeRaw('\n');
+            });
+        }
+    }
+
+    private void writeCsv(UserListFilter filter, Writer writer) throws IOException {
+        BufferedWriter csv = new BufferedWriter(writer);
+        csv.write(CSV_HEADER);
+        csv.write("\r\n");
+        adminUserService.exportUsers(filter, user -> {
+            try {
+                csv.write(csvRow(user));
+                csv.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        csv.flush();
+    }
+
+    private static String csvRow(AdminUserResponse user) {
+        return String.join(",",
+                user.id().toString(),
+                csvField(user.username()),
+                csvField(user.email()),
+                csvField(user.firstName()),
+                csvField(user.lastName()),
+                csvField(user.residence()),
+                user.role().name(),
+                String.valueOf(user.deleted()),
+                Objects.toString(user.createdAt(), ""),
+                Objects.toString(user.updatedAt(), "")
+        );
+    }
+
+    /**
+     * RFC 4180: quote fields containing separators, quotes or line breaks and double embedded
+     * quotes. Values a spreadsheet would evaluate as a formula are prefixed with {@code '} first,
+     * since names and emails are user-controlled.
+     */
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        String field = !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+}
@@ -3,7 +3,9 @@ package com.devoops.user.controller;
 import com.devoops.user.dto.request.LoginRequest;
 import com.devoops.user.dto.request.RegisterRequest;
 import com.devoops.user.dto.response.AuthenticationResponse;
+import com.devoops.user.dto.response.AvailabilityResponse;
 import com.devoops.user.service.AuthenticationService;
+import com.devoops.user.service.AvailabilityService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthenticationController {
 
     private final AuthenticationService authenticationService;
+    private final AvailabilityService availabilityService;
 
     @PostMapping("/register")
     public ResponseEntity<AuthenticationResponse> register(@Valid @RequestBody RegisterRequest request) {
@@ -38,4 +41,11 @@ public class AuthenticationController {
         log.debug("Login request completed.");
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> availability(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String email) {
+        return ResponseEntity.ok(availabilityService.check(username, email));
+    }
 }
@@ -0,0 +1,25 @@
+package com.devoops.user.controller;
+
+import com.devoops.user.service.ProfileSnapshot;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Profile responses written from a cached {@link ProfileSnapshot}, shared by
+ * {@code GET /api/user/me} and {@code GET /api/user/{id}}.
+ */
+final class ProfileResponses {
+
+    private ProfileResponses() {
+    }
+
+    // Spring answers 304 Not Modified when the request's If-None-Match matches the ETag
+    static ResponseEntity<byte[]> of(ProfileSnapshot snapshot) {
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
+    }
+}
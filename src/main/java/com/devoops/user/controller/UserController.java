@@ -5,7 +5,6 @@ import com.devoops.user.config.UserContext;
 import com.devoops.user.dto.request.ChangePasswordRequest;
 import com.devoops.user.dto.request.UpdateUserRequest;
 import com.devoops.user.dto.response.AuthenticationResponse;
-import com.devoops.user.dto.response.UserResponse;
 import com.devoops.user.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -21,8 +20,8 @@ public class UserController {
 
     @GetMapping
     @RequireRole({"HOST", "GUEST"})
-    public ResponseEntity<UserResponse> getProfile(UserContext userContext) {
-        return ResponseEntity.ok(userService.getProfile(userContext.userId()));
+    public ResponseEntity<byte[]> getProfile(UserContext userContext) {
+        return ProfileResponses.of(userService.getProfileSnapshot(userContext.userId()));
     }
 
     @PutMapping
@@ -1,11 +1,17 @@
 package com.devoops.user.controller;
 
 import com.devoops.user.config.RequireRole;
-import com.devoops.user.dto.response.UserResponse;
+import com.devoops.user.dto.request.UserBatchRequest;
 import com.devoops.user.service.UserService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.util.UUID;
 
@@ -15,10 +21,33 @@ import java.util.UUID;
 public class UserPublicController {
 
     private final UserService userService;
+    private final JsonMapper jsonMapper;
 
     @GetMapping("/{id}")
     @RequireRole({"HOST", "GUEST"})
-    public ResponseEntity<UserResponse> getById(@PathVariable String id) {
-        return ResponseEntity.ok(userService.getProfile(UUID.fromString(id)));
+    public ResponseEntity<byte[]> getById(@PathVariable UUID id) {
+        return ProfileResponses.of(userService.getProfileSnapshot(id));
+    }
+
+    /**
+     * Look up many users at once. The JSON array is written while rows are read from the database,
+     * so the status is always 200 and each entry carries the status of its own lookup.
+     */
+    @PostMapping("/batch")
+    @RequireRole({"HOST", "GUEST"})
+    public ResponseEntity<StreamingResponseBody> getBatch(@Valid @RequestBody UserBatchRequest request) {
+        StreamingResponseBody body = outputStream -> {
+            // The servlet container owns the response stream, so the generator must not close it
+            try (JsonGenerator generator = jsonMapper.writer()
+                    .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                    .createGenerator(outputStream)) {
+                generator.writeStartArray();
+                userService.streamProfiles(request.ids(), generator::writePOJO);
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
@@ -0,0 +1,14 @@
+package com.devoops.user.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record UserBatchRequest(
+    @NotEmpty(message = "At least one user ID is required")
+    @Size(max = UserBatchRequest.MAX_IDS, message = "At most " + UserBatchRequest.MAX_IDS + " user IDs can be requested at once")
+    List<String> ids
+) {
+    public static final int MAX_IDS = 200;
+}
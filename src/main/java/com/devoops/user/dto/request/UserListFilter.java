@@ -0,0 +1,11 @@
+package com.devoops.user.dto.request;
+
+import com.devoops.user.entity.Role;
+
+/**
+ * Optional filters of the admin user listing; a {@code null} field matches every user.
+ */
+public record UserListFilter(
+    Role role,
+    Boolean deleted
+) {}
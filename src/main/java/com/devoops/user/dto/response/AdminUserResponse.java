@@ -0,0 +1,19 @@
+package com.devoops.user.dto.response;
+
+import com.devoops.user.entity.Role;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AdminUserResponse(
+    UUID id,
+    String username,
+    String email,
+    String firstName,
+    String lastName,
+    String residence,
+    Role role,
+    boolean deleted,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {}
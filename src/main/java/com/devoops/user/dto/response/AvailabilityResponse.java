@@ -0,0 +1,12 @@
+package com.devoops.user.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Availability of the requested username and/or email; a field is omitted when it was not asked for.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AvailabilityResponse(
+    Boolean usernameAvailable,
+    Boolean emailAvailable
+) {}
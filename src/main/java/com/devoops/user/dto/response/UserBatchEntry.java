@@ -0,0 +1,22 @@
+package com.devoops.user.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One entry of a batch user lookup: the requested ID, the status a single lookup would have
+ * returned, and the user when it was found.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserBatchEntry(
+    String id,
+    int status,
+    UserResponse user
+) {
+    public static UserBatchEntry found(UserResponse user) {
+        return new UserBatchEntry(user.id().toString(), 200, user);
+    }
+
+    public static UserBatchEntry notFound(String id) {
+        return new UserBatchEntry(id, 404, null);
+    }
+}
@@ -0,0 +1,11 @@
+package com.devoops.user.dto.response;
+
+import java.util.List;
+
+/**
+ * One page of the admin user listing. {@code nextCursor} is {@code null} on the last page.
+ */
+public record UserPageResponse(
+    List<AdminUserResponse> users,
+    String nextCursor
+) {}
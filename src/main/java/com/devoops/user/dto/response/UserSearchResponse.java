@@ -0,0 +1,13 @@
+package com.devoops.user.dto.response;
+
+import java.util.List;
+
+/**
+ * One page of user search results, most relevant first.
+ */
+public record UserSearchResponse(
+    List<UserSearchResult> results,
+    int page,
+    int size,
+    boolean hasNext
+) {}
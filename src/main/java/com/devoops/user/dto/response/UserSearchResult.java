@@ -0,0 +1,15 @@
+package com.devoops.user.dto.response;
+
+import com.devoops.user.entity.Role;
+
+import java.util.UUID;
+
+public record UserSearchResult(
+    UUID id,
+    String username,
+    String email,
+    String firstName,
+    String lastName,
+    Role role,
+    double score
+) {}
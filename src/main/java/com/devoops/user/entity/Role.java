@@ -2,5 +2,7 @@ package com.devoops.user.entity;
 
 public enum Role {
     HOST,
-    GUEST
+    GUEST,
+    // Support staff; assigned in the database only, never at registration
+    ADMIN
 }
@@ -0,0 +1,18 @@
+package com.devoops.user.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a bounded resource (e.g. the password hashing pool) is saturated
+ * and the request is shed instead of being queued indefinitely.
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
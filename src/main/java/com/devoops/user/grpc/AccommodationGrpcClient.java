@@ -1,20 +1,31 @@
 package com.devoops.user.grpc;
 
 import com.devoops.user.grpc.proto.accommodation.*;
+import com.devoops.user.metrics.OperationTimer;
 import io.grpc.StatusRuntimeException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class AccommodationGrpcClient {
 
+    private final OperationTimer operationTimer;
+
     @GrpcClient("accommodation-service")
     private AccommodationInternalServiceGrpc.AccommodationInternalServiceBlockingStub accommodationStub;
 
+    // Bounds how long a slow downstream can hold the calling request thread
+    @Value("${grpc.client.accommodation-service.deadline-ms:5000}")
+    private long deadlineMs;
+
     /**
      * Delete all accommodations for a host (cascade deletion).
      */
@@ -26,7 +37,9 @@ public class AccommodationGrpcClient {
                     .setHostId(hostId.toString())
                     .build();
 
-            DeleteByHostResponse response = accommodationStub.deleteAccommodationsByHost(request);
+            DeleteByHostResponse response = operationTimer.record("grpc.accommodation.delete_by_host", () -> accommodationStub
+                    .withDeadlineAfter(deadlineMs, TimeUnit.MILLISECONDS)
+                    .deleteAccommodationsByHost(request));
 
             if (response.getSuccess()) {
                 log.info("Successfully deleted {} accommodations for host {}", response.getDeletedCount(), hostId);
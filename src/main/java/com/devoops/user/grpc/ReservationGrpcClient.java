@@ -1,20 +1,31 @@
 package com.devoops.user.grpc;
 
 import com.devoops.user.grpc.proto.reservation.*;
+import com.devoops.user.metrics.OperationTimer;
 import io.grpc.StatusRuntimeException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class ReservationGrpcClient {
 
+    private final OperationTimer operationTimer;
+
     @GrpcClient("reservation-service")
     private ReservationInternalServiceGrpc.ReservationInternalServiceBlockingStub reservationStub;
 
+    // Bounds how long a slow downstream can hold the calling request thread
+    @Value("${grpc.client.reservation-service.deadline-ms:3000}")
+    private long deadlineMs;
+
     /**
      * Check if a guest can be deleted (has no active reservations).
      */
@@ -26,7 +37,9 @@ public class ReservationGrpcClient {
                     .setGuestId(guestId.toString())
                     .build();
 
-            CheckDeletionResponse response = reservationStub.checkGuestCanBeDeleted(request);
+            CheckDeletionResponse response = operationTimer.record("grpc.reservation.check_guest", () -> reservationStub
+                    .withDeadlineAfter(deadlineMs, TimeUnit.MILLISECONDS)
+                    .checkGuestCanBeDeleted(request));
 
             return new DeletionCheckResult(
                     response.getCanBeDeleted(),
@@ -50,7 +63,9 @@ public class ReservationGrpcClient {
                     .setHostId(hostId.toString())
                     .build();
 
-            CheckDeletionResponse response = reservationStub.checkHostCanBeDeleted(request);
+            CheckDeletionResponse response = operationTimer.record("grpc.reservation.check_host", () -> reservationStub
+                    .withDeadlineAfter(deadlineMs, TimeUnit.MILLISECONDS)
+                    .checkHostCanBeDeleted(request));
 
             return new DeletionCheckResult(
                     response.getCanBeDeleted(),
@@ -1,24 +1,41 @@
 package com.devoops.user.grpc;
 
-import com.devoops.user.entity.User;
+import com.devoops.user.config.ReadYourWritesWindow;
+import com.devoops.user.grpc.proto.GetUserSummariesRequest;
+import com.devoops.user.grpc.proto.GetUserSummariesResponse;
 import com.devoops.user.grpc.proto.GetUserSummaryRequest;
 import com.devoops.user.grpc.proto.GetUserSummaryResponse;
 import com.devoops.user.grpc.proto.UserInternalServiceGrpc;
 import com.devoops.user.repository.UserRepository;
+import com.devoops.user.repository.projection.UserSummaryView;
+import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @GrpcService
 @RequiredArgsConstructor
 @Slf4j
 public class UserGrpcService extends UserInternalServiceGrpc.UserInternalServiceImplBase {
 
+    static final int MAX_BATCH_SIZE = 500;
+
     private final UserRepository userRepository;
+    private final UserSummaryCache userSummaryCache;
+    private final ReadYourWritesWindow readYourWritesWindow;
 
     @Override
     public void getUserSummary(
@@ -33,44 +50,111 @@ public class UserGrpcService extends UserInternalServiceGrpc.UserInternalService
         responseObserver.onCompleted();
     }
 
+    /**
+     * Resolve many user summaries with a single query, so callers rendering lists
+     * do not need one round trip per row. Deleted users are included.
+     */
+    @Override
+    public void getUserSummaries(
+            GetUserSummariesRequest request,
+            StreamObserver<GetUserSummariesResponse> responseObserver) {
+
+        log.debug("Received GetUserSummaries request for {} user IDs", request.getUserIdsCount());
+
+        if (request.getUserIdsCount() > MAX_BATCH_SIZE) {
+            log.warn("Rejected GetUserSummaries request with {} user IDs (max {})",
+                    request.getUserIdsCount(), MAX_BATCH_SIZE);
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("At most " + MAX_BATCH_SIZE + " user IDs can be requested at once")
+                    .asRuntimeException());
+            return;
+        }
+
+        GetUserSummariesResponse response = processBatchRequest(request);
+
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
     private GetUserSummaryResponse processRequest(GetUserSummaryRequest request) {
-        UUID userId;
-        try {
-            userId = UUID.fromString(request.getUserId());
-        } catch (IllegalArgumentException e) {
-            log.warn("Invalid user ID format: {}", request.getUserId());
+        UUID userId = parseUserId(request.getUserId());
+        if (userId == null) {
+            return buildNotFoundResponse();
+        }
+
+        return userSummaryCache.get(userId, this::loadSummary);
+    }
+
+    private GetUserSummaryResponse loadSummary(UUID userId) {
+        Optional<UserSummaryView> summary = readYourWritesWindow.read(userId, () -> userRepository.findSummaryById(userId));
+        if (summary.isEmpty()) {
+            log.debug("User not found: {}", userId);
             return buildNotFoundResponse();
         }
 
-        // First try to find active (non-deleted) user
-        Optional<User> userOpt = userRepository.findById(userId);
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            log.debug("Found active user: {} {} ({})", user.getFirstName(), user.getLastName(), user.getRole());
-            return buildUserResponse(user, false);
+        UserSummaryView user = summary.get();
+        log.debug("Found {} user: {} {} ({})", user.isDeleted() ? "deleted" : "active",
+                user.getFirstName(), user.getLastName(), user.getRole());
+        return buildUserResponse(user);
+    }
+
+    private GetUserSummariesResponse processBatchRequest(GetUserSummariesRequest request) {
+        List<UUID> requestedIds = new ArrayList<>(request.getUserIdsCount());
+        Set<UUID> distinctIds = new HashSet<>();
+        for (String rawUserId : request.getUserIdsList()) {
+            UUID userId = parseUserId(rawUserId);
+            requestedIds.add(userId);
+            if (userId != null) {
+                distinctIds.add(userId);
+            }
         }
 
-        // If not found, check if user exists but is deleted
-        Optional<User> deletedUserOpt = userRepository.findByIdIncludingDeleted(userId);
-        if (deletedUserOpt.isPresent()) {
-            User user = deletedUserOpt.get();
-            log.debug("Found deleted user: {} {} ({})", user.getFirstName(), user.getLastName(), user.getRole());
-            return buildUserResponse(user, true);
+        Map<UUID, GetUserSummaryResponse> summariesById = distinctIds.isEmpty()
+                ? Map.of()
+                : userSummaryCache.getAll(distinctIds, this::loadSummaries);
+
+        GetUserSummariesResponse.Builder response = GetUserSummariesResponse.newBuilder();
+        for (UUID userId : requestedIds) {
+            response.addSummaries(userId != null ? summariesById.get(userId) : buildNotFoundResponse());
         }
+        return response.build();
+    }
+
+    // Loads only the IDs missing from the cache, with one query
+    private Map<UUID, GetUserSummaryResponse> loadSummaries(Collection<? extends UUID> userIds) {
+        Map<UUID, UserSummaryView> usersById = readYourWritesWindow
+                .read(userIds, () -> userRepository.findSummariesByIdIn(Set.copyOf(userIds)))
+                .stream()
+                .collect(Collectors.toMap(UserSummaryView::getId, Function.identity()));
 
-        log.debug("User not found: {}", userId);
-        return buildNotFoundResponse();
+        Map<UUID, GetUserSummaryResponse> summaries = new HashMap<>();
+        for (UUID userId : userIds) {
+            UserSummaryView user = usersById.get(userId);
+            summaries.put(userId, user != null ? buildUserResponse(user) : buildNotFoundResponse());
+        }
+
+        log.debug("Loaded {} of {} uncached user summaries", usersById.size(), userIds.size());
+        return summaries;
+    }
+
+    private UUID parseUserId(String userId) {
+        try {
+            return UUID.fromString(userId);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid user ID format: {}", userId);
+            return null;
+        }
     }
 
-    private GetUserSummaryResponse buildUserResponse(User user, boolean isDeleted) {
+    private GetUserSummaryResponse buildUserResponse(UserSummaryView user) {
         return GetUserSummaryResponse.newBuilder()
                 .setFound(true)
                 .setUserId(user.getId().toString())
                 .setEmail(user.getEmail())
                 .setFirstName(user.getFirstName())
                 .setLastName(user.getLastName())
-                .setRole(user.getRole().name())
-                .setIsDeleted(isDeleted)
+                .setRole(user.getRole())
+                .setIsDeleted(user.isDeleted())
                 .build();
     }
 
@@ -0,0 +1,90 @@
+package com.devoops.user.grpc;
+
+import com.devoops.user.grpc.proto.GetUserSummaryResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded in-memory cache of {@link GetUserSummaryResponse} messages keyed by user ID.
+ * <p>
+ * Unknown IDs are cached as "not found" responses with a shorter lifetime, so repeated
+ * lookups of a missing user do not reach the database either. Entries are evicted by
+ * {@link com.devoops.user.service.UserService} whenever a profile changes; the TTL only
+ * bounds staleness for changes made by other instances.
+ */
+@Component
+@Slf4j
+public class UserSummaryCache {
+
+    private static final String CACHE_NAME = "user.summary";
+
+    private final Cache<UUID, GetUserSummaryResponse> cache;
+
+    public UserSummaryCache(
+            @Value("${grpc.user-summary-cache.max-size:10000}") long maxSize,
+            @Value("${grpc.user-summary-cache.ttl-ms:300000}") long ttlMs,
+            @Value("${grpc.user-summary-cache.negative-ttl-ms:30000}") long negativeTtlMs,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(expiry(Duration.ofMillis(ttlMs), Duration.ofMillis(negativeTtlMs)))
+                .recordStats()
+                .build();
+        // Exposes cache.gets{result=hit|miss}, cache.evictions, cache.size, ... tagged cache=user.summary
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Return the cached summary of a user, loading and caching it on a miss.
+     */
+    public GetUserSummaryResponse get(UUID userId, Function<UUID, GetUserSummaryResponse> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * Return the cached summaries of the given users, loading all misses with a single call.
+     * The loader must return an entry for every ID it is given.
+     */
+    public Map<UUID, GetUserSummaryResponse> getAll(
+            Collection<UUID> userIds,
+            Function<Collection<? extends UUID>, Map<UUID, GetUserSummaryResponse>> loader
+    ) {
+        return cache.getAll(userIds, loader);
+    }
+
+    /**
+     * Evict the summary of a user. When called inside a transaction the entry is evicted again
+     * after commit, so a concurrent read of the not yet committed row cannot leave a stale entry.
+     */
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+        log.debug("Invalidated cached summary for user {}", userId);
+    }
+
+    private static Expiry<UUID, GetUserSummaryResponse> expiry(Duration ttl, Duration negativeTtl) {
+        return Expiry.creating((userId, summary) -> summary.getFound() ? ttl : negativeTtl);
+    }
+}
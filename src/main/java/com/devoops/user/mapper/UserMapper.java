@@ -3,6 +3,7 @@ package com.devoops.user.mapper;
 import com.devoops.user.dto.request.RegisterRequest;
 import com.devoops.user.dto.response.UserResponse;
 import com.devoops.user.entity.User;
+import com.devoops.user.repository.projection.UserProfileView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -11,6 +12,8 @@ public interface UserMapper {
 
     UserResponse toUserResponse(User user);
 
+    UserResponse toUserResponse(UserProfileView profile);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "password", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
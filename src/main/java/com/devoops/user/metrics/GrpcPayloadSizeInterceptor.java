@@ -0,0 +1,118 @@
+package com.devoops.user.metrics;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the serialized size of every gRPC request and response message as
+ * {@code rpc.<side>.request.size} and {@code rpc.<side>.response.size}, in bytes, following the
+ * OpenTelemetry RPC metric names, tagged with the same {@code rpc.service} and {@code rpc.method}
+ * as the observation timers.
+ * <p>
+ * Protobuf memoizes the serialized size, so measuring a message costs nothing extra once it has
+ * been written or parsed. One instance serves either the server or the client side.
+ */
+public class GrpcPayloadSizeInterceptor implements ServerInterceptor, ClientInterceptor {
+
+    private final String side;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Sizes> sizesByMethod = new ConcurrentHashMap<>();
+
+    private GrpcPayloadSizeInterceptor(String side, MeterRegistry meterRegistry) {
+        this.side = side;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static GrpcPayloadSizeInterceptor server(MeterRegistry meterRegistry) {
+        return new GrpcPayloadSizeInterceptor("server", meterRegistry);
+    }
+
+    public static GrpcPayloadSizeInterceptor client(MeterRegistry meterRegistry) {
+        return new GrpcPayloadSizeInterceptor("client", meterRegistry);
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+
+        Sizes sizes = sizesOf(call.getMethodDescriptor());
+        ServerCall<ReqT, RespT> measuredCall = new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+            @Override
+            public void sendMessage(RespT message) {
+                sizes.response().record(sizeOf(message));
+                super.sendMessage(message);
+            }
+        };
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(next.startCall(measuredCall, headers)) {
+            @Override
+            public void onMessage(ReqT message) {
+                sizes.request().record(sizeOf(message));
+                super.onMessage(message);
+            }
+        };
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+            MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+
+        Sizes sizes = sizesOf(method);
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                    @Override
+                    public void onMessage(RespT message) {
+                        sizes.response().record(sizeOf(message));
+                        super.onMessage(message);
+                    }
+                }, headers);
+            }
+
+            @Override
+            public void sendMessage(ReqT message) {
+                sizes.request().record(sizeOf(message));
+                super.sendMessage(message);
+            }
+        };
+    }
+
+    private Sizes sizesOf(MethodDescriptor<?, ?> method) {
+        return sizesByMethod.computeIfAbsent(method.getFullMethodName(), fullMethodName -> new Sizes(
+                summary("request", method),
+                summary("response", method)));
+    }
+
+    private DistributionSummary summary(String direction, MethodDescriptor<?, ?> method) {
+        return DistributionSummary.builder("rpc." + side + "." + direction + ".size")
+                .description("Serialized size of gRPC " + direction + " messages")
+                .baseUnit("bytes")
+                .tag("rpc.service", String.valueOf(method.getServiceName()))
+                .tag("rpc.method", String.valueOf(method.getBareMethodName()))
+                .register(meterRegistry);
+    }
+
+    private static int sizeOf(Object message) {
+        return message instanceof MessageLite protobuf ? protobuf.getSerializedSize() : 0;
+    }
+
+    private record Sizes(DistributionSummary request, DistributionSummary response) {
+    }
+}
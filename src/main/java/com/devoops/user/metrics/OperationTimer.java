@@ -0,0 +1,68 @@
+package com.devoops.user.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Times auth and profile operations, and the steps they are made of, as the
+ * {@value #METRIC_NAME} timer tagged with {@code operation} and {@code outcome}.
+ * <p>
+ * Operations are named {@code <area>.<step>}, e.g. {@code auth.login} for the whole login and
+ * {@code auth.login.lookup} for its database lookup, so a slow p99 can be attributed to a step.
+ * Histogram buckets and SLO boundaries are configured with the
+ * {@code management.metrics.distribution.*.user.operation} properties.
+ */
+@Component
+@RequiredArgsConstructor
+public class OperationTimer {
+
+    public static final String METRIC_NAME = "user.operation.duration";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Run the action and record its duration, tagged {@link Outcome#SUCCESS} when it returns and
+     * with the {@link Outcome#of classified} failure when it throws.
+     */
+    public <T> T record(String operation, Supplier<T> action) {
+        Timer.Sample sample = start();
+        try {
+            T result = action.get();
+            stop(sample, operation, Outcome.SUCCESS);
+            return result;
+        } catch (RuntimeException e) {
+            stop(sample, operation, Outcome.of(e));
+            throw e;
+        }
+    }
+
+    /**
+     * Like {@link #record(String, Supplier)}, for actions without a result.
+     */
+    public void run(String operation, Runnable action) {
+        record(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Start timing an operation whose outcome is decided by the caller, see
+     * {@link #stop(Timer.Sample, String, String)}.
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(Timer.builder(METRIC_NAME)
+                .description("Duration of auth and profile operations by outcome")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,62 @@
+package com.devoops.user.metrics;
+
+import com.devoops.user.exception.AccountDeletionException;
+import com.devoops.user.exception.InvalidCredentialsException;
+import com.devoops.user.exception.InvalidPasswordException;
+import com.devoops.user.exception.InvalidRequestParameterException;
+import com.devoops.user.exception.ServiceOverloadedException;
+import com.devoops.user.exception.UserAlreadyExistsException;
+import com.devoops.user.exception.UserNotFoundException;
+import io.grpc.StatusRuntimeException;
+
+import java.util.Locale;
+
+/**
+ * Values of the {@code outcome} tag recorded by {@link OperationTimer}. The set is kept small and
+ * fixed so that the tag never explodes the number of time series.
+ */
+public final class Outcome {
+
+    public static final String SUCCESS = "success";
+    public static final String USER_NOT_FOUND = "user_not_found";
+    public static final String INVALID_CREDENTIALS = "invalid_credentials";
+    public static final String INVALID_PASSWORD = "invalid_password";
+    public static final String CONFLICT = "conflict";
+    public static final String REJECTED = "rejected";
+    public static final String OVERLOADED = "overloaded";
+    public static final String ERROR = "error";
+
+    private Outcome() {
+    }
+
+    /**
+     * Classify a failed operation. gRPC failures are tagged with their status code, e.g.
+     * {@code deadline_exceeded}, also when wrapped by the client.
+     */
+    public static String of(Throwable failure) {
+        if (failure instanceof InvalidCredentialsException) {
+            return INVALID_CREDENTIALS;
+        }
+        if (failure instanceof UserNotFoundException) {
+            return USER_NOT_FOUND;
+        }
+        if (failure instanceof InvalidPasswordException) {
+            return INVALID_PASSWORD;
+        }
+        if (failure instanceof UserAlreadyExistsException) {
+            return CONFLICT;
+        }
+        if (failure instanceof AccountDeletionException || failure instanceof InvalidRequestParameterException) {
+            return REJECTED;
+        }
+        if (failure instanceof ServiceOverloadedException) {
+            return OVERLOADED;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof StatusRuntimeException statusException) {
+                return statusException.getStatus().getCode().name().toLowerCase(Locale.ROOT);
+            }
+        }
+        return ERROR;
+    }
+}
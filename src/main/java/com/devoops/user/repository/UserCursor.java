@@ -0,0 +1,11 @@
+package com.devoops.user.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Position in the {@code (created_at, id)} order of the admin user listing; a page starts
+ * right after the user it identifies.
+ */
+public record UserCursor(LocalDateTime createdAt, UUID id) {
+}
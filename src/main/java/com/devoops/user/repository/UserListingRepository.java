@@ -0,0 +1,103 @@
+package com.devoops.user.repository;
+
+import com.devoops.user.dto.request.UserListFilter;
+import com.devoops.user.dto.response.AdminUserResponse;
+import com.devoops.user.entity.Role;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Admin listing of users, soft-deleted ones included, in {@code (created_at, id)} order.
+ * <p>
+ * Uses plain JDBC rather than JPA: every filter is optional, the listing must bypass the
+ * soft-delete restriction on {@link com.devoops.user.entity.User}, and exports need a forward-only
+ * cursor whose fetch size bounds the number of rows held in memory. Both queries are served by
+ * {@code ix_users_created_at_id}.
+ */
+@Repository
+public class UserListingRepository {
+
+    static final String COLUMNS = "id, username, email, first_name, last_name, residence, "
+            + "CAST(role AS text) AS role, is_deleted, created_at, updated_at";
+
+    private static final RowMapper<AdminUserResponse> ROW_MAPPER = (resultSet, rowNum) -> new AdminUserResponse(
+            resultSet.getObject("id", UUID.class),
+            resultSet.getString("username"),
+            resultSet.getString("email"),
+            resultSet.getString("first_name"),
+            resultSet.getString("last_name"),
+            resultSet.getString("residence"),
+            Role.valueOf(resultSet.getString("role")),
+            resultSet.getBoolean("is_deleted"),
+            resultSet.getObject("created_at", LocalDateTime.class),
+            resultSet.getObject("updated_at", LocalDateTime.class)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate exportJdbcTemplate;
+
+    public UserListingRepository(
+            DataSource dataSource,
+            @Value("${admin.users.export.fetch-size:500}") int exportFetchSize
+    ) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        JdbcTemplate exportTemplate = new JdbcTemplate(dataSource);
+        exportTemplate.setFetchSize(exportFetchSize);
+        this.exportJdbcTemplate = new NamedParameterJdbcTemplate(exportTemplate);
+    }
+
+    /**
+     * Return up to {@code limit} users matching the filter, starting right after {@code after},
+     * or from the beginning when it is {@code null}.
+     */
+    public List<AdminUserResponse> findPage(UserListFilter filter, UserCursor after, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("limit", limit);
+        String sql = "SELECT " + COLUMNS + " FROM users" + whereClause(filter, after, parameters)
+                + " ORDER BY created_at, id LIMIT :limit";
+        return jdbcTemplate.query(sql, parameters, ROW_MAPPER);
+    }
+
+    /**
+     * Pass every user matching the filter to the consumer, reading rows in chunks of the export
+     * fetch size. Must be called inside a transaction: PostgreSQL only uses a cursor, instead of
+     * loading the whole result, when auto-commit is off.
+     */
+    public void forEach(UserListFilter filter, Consumer<AdminUserResponse> consumer) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        String sql = "SELECT " + COLUMNS + " FROM users" + whereClause(filter, null, parameters)
+                + " ORDER BY created_at, id";
+        exportJdbcTemplate.query(sql, parameters,
+                (RowCallbackHandler) resultSet -> consumer.accept(ROW_MAPPER.mapRow(resultSet, resultSet.getRow())));
+    }
+
+    private static String whereClause(UserListFilter filter, UserCursor after, MapSqlParameterSource parameters) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.role() != null) {
+            conditions.add("role = CAST(:role AS user_role)");
+            parameters.addValue("role", filter.role().name());
+        }
+        if (filter.deleted() != null) {
+            conditions.add("is_deleted = :deleted");
+            parameters.addValue("deleted", filter.deleted());
+        }
+        if (after != null) {
+            // Row comparison, so PostgreSQL can seek directly in the (created_at, id) index
+            conditions.add("(created_at, id) > (:afterCreatedAt, :afterId)");
+            parameters.addValue("afterCreatedAt", after.createdAt());
+            parameters.addValue("afterId", after.id());
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+}
@@ -1,32 +1,185 @@
 package com.devoops.user.repository;
 
+import com.devoops.user.dto.response.UserResponse;
 import com.devoops.user.entity.User;
+import com.devoops.user.repository.projection.UserProfileView;
+import com.devoops.user.repository.projection.UserSearchView;
+import com.devoops.user.repository.projection.UserSummaryView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
 
+    /** Columns of {@link UserSummaryView}; aliases are quoted because PostgreSQL folds them to lower case. */
+    String SUMMARY_COLUMNS = "id, email, first_name AS \"firstName\", last_name AS \"lastName\", "
+            + "CAST(role AS text) AS role, is_deleted AS deleted";
+
+    /**
+     * Text matched by {@link #search}; must stay identical to the expression of {@code ix_users_search_trgm}.
+     */
+    String SEARCH_TEXT = "lower(username || ' ' || email || ' ' || first_name || ' ' || last_name)";
+
     Optional<User> findByUsername(String username);
 
     Optional<User> findByEmail(String email);
 
-    Optional<User> findByUsernameOrEmail(String username, String email);
+    /**
+     * Find an active user by username, ignoring case. Served by {@code ux_users_username_lower_active}.
+     */
+    @Query(value = "SELECT * FROM users WHERE lower(username) = lower(:username) AND is_deleted = false",
+            nativeQuery = true)
+    Optional<User> findActiveByUsernameIgnoreCase(@Param("username") String username);
 
-    boolean existsByUsername(String username);
+    /**
+     * Find an active user by email, ignoring case. Served by {@code ux_users_email_lower_active}.
+     */
+    @Query(value = "SELECT * FROM users WHERE lower(email) = lower(:email) AND is_deleted = false",
+            nativeQuery = true)
+    Optional<User> findActiveByEmailIgnoreCase(@Param("email") String email);
 
-    boolean existsByEmail(String email);
+    /**
+     * Whether a username is taken, ignoring case among active users. Deleted users keep their exact
+     * username, since the original unique constraint on the column still covers them.
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM users WHERE lower(username) = lower(:username) AND is_deleted = false)"
+            + " OR EXISTS (SELECT 1 FROM users WHERE username = :username)", nativeQuery = true)
+    boolean existsByUsername(@Param("username") String username);
+
+    /**
+     * Whether an email is registered to an active user, ignoring case.
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM users WHERE lower(email) = lower(:email) AND is_deleted = false)",
+            nativeQuery = true)
+    boolean existsByEmail(@Param("email") String email);
+
+    /**
+     * Lower-cased usernames of all users, including deleted ones whose names stay reserved,
+     * fetched in batches. Must be consumed and closed inside a transaction.
+     */
+    @Query(value = "SELECT lower(username) FROM users", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> findAllNormalizedUsernames();
+
+    /**
+     * Lower-cased emails of all active users, fetched in batches. Must be consumed and closed
+     * inside a transaction.
+     */
+    @Query(value = "SELECT lower(email) FROM users WHERE is_deleted = false", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> findAllNormalizedActiveEmails();
 
     /**
-     * Find a user by ID including deleted users.
+     * Insert a new user in one statement, relying on the unique indexes instead of prior existence
+     * checks, so concurrent registrations cannot race past each other.
+     *
+     * @return the ID of the inserted row, or empty when a username or email conflict skipped the insert
+     */
+    @Query(value = """
+            INSERT INTO users (id, username, password, email, first_name, last_name, residence, role)
+            VALUES (:id, :username, :password, :email, :firstName, :lastName, :residence, CAST(:role AS user_role))
+            ON CONFLICT DO NOTHING
+            RETURNING id""", nativeQuery = true)
+    Optional<UUID> insertIgnoringConflicts(
+            @Param("id") UUID id,
+            @Param("username") String username,
+            @Param("password") String password,
+            @Param("email") String email,
+            @Param("firstName") String firstName,
+            @Param("lastName") String lastName,
+            @Param("residence") String residence,
+            @Param("role") String role
+    );
+
+    /**
+     * Insert a new user unless its username or email is already taken.
+     *
+     * @return whether the user was inserted
+     */
+    default boolean insertIfAbsent(User user) {
+        return insertIgnoringConflicts(
+                user.getId(),
+                user.getUsername(),
+                user.getPassword(),
+                user.getEmail(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getResidence(),
+                user.getRole().name()
+        ).isPresent();
+    }
+
+    /**
+     * Find the summary of a user by ID including deleted users, in a single query.
      * This bypasses the @SQLRestriction filter to allow fetching deleted user info
      * for historical data display (e.g., showing guest name on past reservations).
      */
-    @Query(value = "SELECT * FROM users WHERE id = :id", nativeQuery = true)
-    Optional<User> findByIdIncludingDeleted(@Param("id") UUID id);
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM users WHERE id = :id", nativeQuery = true)
+    @Transactional(readOnly = true)
+    Optional<UserSummaryView> findSummaryById(@Param("id") UUID id);
+
+    /**
+     * Find the summaries of all users with the given IDs in a single query, including deleted users.
+     * Result order is unspecified and missing IDs are simply absent.
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM users WHERE id IN (:ids)", nativeQuery = true)
+    @Transactional(readOnly = true)
+    List<UserSummaryView> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Find the profile of an active user by ID. Unlike {@link #findById}, this selects only the
+     * profile columns into a {@link UserProfileView}, so nothing enters the persistence context.
+     */
+    @Query("SELECT new com.devoops.user.repository.projection.UserProfileView("
+            + "u.id, u.username, u.email, u.firstName, u.lastName, u.residence, u.role, u.updatedAt) "
+            + "FROM User u WHERE u.id = :id")
+    @Transactional(readOnly = true)
+    Optional<UserProfileView> findProfileById(@Param("id") UUID id);
+
+    /**
+     * Stream the profiles of all active users with the given IDs, read with one query and fetched
+     * from the database in chunks. Rows are mapped straight to {@link UserResponse}, so no entities
+     * pile up in the persistence context. Must be consumed and closed inside a transaction.
+     */
+    @Query("SELECT new com.devoops.user.dto.response.UserResponse("
+            + "u.id, u.username, u.email, u.firstName, u.lastName, u.residence, u.role) "
+            + "FROM User u WHERE u.id IN :ids")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    Stream<UserResponse> streamProfilesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Find active users whose username, email or name contains the pattern, best matches first.
+     * The pattern is a lower-case {@code LIKE} pattern; the score is the word similarity between
+     * the lower-case query and the matched text. Matches are served by {@code ix_users_search_trgm}
+     * for patterns of at least three characters. Only the {@code candidates} matches nearest to the
+     * query by trigram word distance are ranked, read in that order from the GiST index, so broad
+     * terms such as {@code com} that match most users cost no more than selective ones while the
+     * best matches are always among them. Ties are broken by ID, so pages do not overlap.
+     */
+    @Query(value = "SELECT id, username, email, \"firstName\", \"lastName\", role, "
+            + "CAST(1 - distance AS float8) AS score "
+            + "FROM (SELECT id, username, email, first_name AS \"firstName\", last_name AS \"lastName\", "
+            + "CAST(role AS text) AS role, " + SEARCH_TEXT + " <->> :query AS distance "
+            + "FROM users WHERE is_deleted = false AND " + SEARCH_TEXT + " LIKE :pattern "
+            + "ORDER BY distance, id LIMIT :candidates) AS candidates "
+            + "ORDER BY distance, id LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<UserSearchView> search(
+            @Param("query") String query,
+            @Param("pattern") String pattern,
+            @Param("candidates") int candidates,
+            @Param("limit") int limit,
+            @Param("offset") long offset
+    );
 }
@@ -0,0 +1,22 @@
+package com.devoops.user.repository.projection;
+
+import com.devoops.user.entity.Role;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only copy of the columns shown on a profile, plus the modification time its ETag is
+ * derived from. Built directly from the query result, so no managed entity or password hash is
+ * ever loaded for a profile read.
+ */
+public record UserProfileView(
+    UUID id,
+    String username,
+    String email,
+    String firstName,
+    String lastName,
+    String residence,
+    Role role,
+    LocalDateTime updatedAt
+) {}
@@ -0,0 +1,23 @@
+package com.devoops.user.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * A user search hit with its relevance score. Never carries the password hash.
+ */
+public interface UserSearchView {
+
+    UUID getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getRole();
+
+    double getScore();
+}
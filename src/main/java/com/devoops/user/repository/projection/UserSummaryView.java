@@ -0,0 +1,22 @@
+package com.devoops.user.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Read-only view of the columns needed for a user summary, including the soft-delete flag.
+ * Never carries the password hash or other profile columns.
+ */
+public interface UserSummaryView {
+
+    UUID getId();
+
+    String getEmail();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getRole();
+
+    boolean isDeleted();
+}
@@ -0,0 +1,173 @@
+package com.devoops.user.security;
+
+import com.devoops.user.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link PasswordEncoder} that runs the CPU-heavy hashing of its delegate on a dedicated,
+ * size-bounded worker pool instead of on the calling request thread.
+ * <p>
+ * When the pool queue is full, or a task waits in the queue longer than the configured timeout,
+ * the call fails fast with a {@link ServiceOverloadedException} so that a login burst cannot
+ * starve cheap endpoints sharing the same CPU. The timeout covers the queue wait only: a hash
+ * that a worker has started is always awaited, and a task whose caller gave up is skipped
+ * instead of hashing for nobody.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final String METRIC_PREFIX = "password.hashing";
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long queueTimeoutNanos;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            ThreadPoolExecutor executor,
+            Duration queueTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.encodeTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .description("Time spent hashing or verifying a password on the worker pool")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .description("Time spent hashing or verifying a password on the worker pool")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder(METRIC_PREFIX + ".queue.wait")
+                .description("Time a hashing task waited in the queue before a worker picked it up")
+                .register(meterRegistry);
+        this.queueFullCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Hashing requests rejected because the pool was saturated")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Hashing requests rejected because the pool was saturated")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        // Exposes executor.queued, executor.active, executor.pool.size, ... tagged name=password.hashing
+        new ExecutorServiceMetrics(executor, METRIC_PREFIX, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only inspects the hash prefix, cheap enough to run on the caller thread
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Run a task on the pool. The caller and the worker race to claim it: the worker claims it
+     * when it picks the task up within the queue timeout, the caller when it stops waiting.
+     */
+    private <T> T execute(Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                queueWaitTimer.record(waited, TimeUnit.NANOSECONDS);
+                if (waited > queueTimeoutNanos || !claimed.compareAndSet(false, true)) {
+                    throw new QueueTimeoutException();
+                }
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            log.warn("Password hashing queue is full ({} queued), shedding request", executor.getQueue().size());
+            throw overloaded();
+        }
+
+        try {
+            try {
+                return future.get(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    // Still queued; free its slot rather than leave it for a worker to skip
+                    executor.remove((Runnable) future);
+                    throw queueTimeout();
+                }
+                // A worker picked it up in time, so the hash is awaited however long it takes
+                return future.get();
+            }
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof QueueTimeoutException) {
+                throw queueTimeout();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private ServiceOverloadedException queueTimeout() {
+        timeoutCounter.increment();
+        log.warn("Password hashing waited more than {} ms for a worker, shedding request",
+                TimeUnit.NANOSECONDS.toMillis(queueTimeoutNanos));
+        return overloaded();
+    }
+
+    private static ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException(
+                "Too many concurrent authentication requests, please retry shortly", RETRY_AFTER_SECONDS);
+    }
+
+    // Thrown on the worker when a task is picked up too late; never reaches the caller as is
+    private static final class QueueTimeoutException extends RuntimeException {
+
+        QueueTimeoutException() {
+            super(null, null, false, false);
+        }
+    }
+}
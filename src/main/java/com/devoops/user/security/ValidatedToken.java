@@ -0,0 +1,34 @@
+package com.devoops.user.security;
+
+import com.devoops.user.entity.User;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of a JWT whose signature has already been verified.
+ * Produced once per token by {@link JwtService#parseToken(String)} so that
+ * subsequent checks do not verify and decode the token again.
+ *
+ * @param subject the username the token was issued to
+ * @param userId the ID of the user, or null if the claim is absent
+ * @param role the role of the user, or null if the claim is absent
+ * @param email the email of the user, or null if the claim is absent
+ * @param expiration the expiration instant, or null if the token never expires
+ */
+public record ValidatedToken(
+        String subject,
+        UUID userId,
+        String role,
+        String email,
+        Instant expiration
+) {
+
+    public boolean isExpired() {
+        return expiration != null && expiration.isBefore(Instant.now());
+    }
+
+    public boolean isValidFor(User user) {
+        return subject != null && subject.equals(user.getUsername()) && !isExpired();
+    }
+}
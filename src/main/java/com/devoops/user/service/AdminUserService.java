@@ -0,0 +1,133 @@
+package com.devoops.user.service;
+
+import com.devoops.user.dto.request.UserListFilter;
+import com.devoops.user.dto.response.AdminUserResponse;
+import com.devoops.user.dto.response.UserPageResponse;
+import com.devoops.user.dto.response.UserSearchResponse;
+import com.devoops.user.dto.response.UserSearchResult;
+import com.devoops.user.entity.Role;
+import com.devoops.user.exception.InvalidRequestParameterException;
+import com.devoops.user.repository.UserCursor;
+import com.devoops.user.repository.UserListingRepository;
+import com.devoops.user.repository.UserRepository;
+import com.devoops.user.repository.projection.UserSearchView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Lists, exports and searches users for administrators and support staff.
+ * <p>
+ * Pages are addressed with an opaque cursor naming the last user of the previous page, so each page
+ * is an index seek regardless of how deep it is, and rows inserted meanwhile neither shift nor
+ * duplicate entries the way offsets would.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminUserService {
+
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_SEARCH_PAGE_SIZE = 50;
+    // Shorter terms have no trigram to look up in the index and would scan every user
+    static final int MIN_SEARCH_LENGTH = 3;
+    // Matches scored and ranked per search; bounds the work for terms that match most users
+    static final int MAX_SEARCH_CANDIDATES = 1_000;
+
+    private static final char CURSOR_SEPARATOR = '|';
+
+    private final UserListingRepository userListingRepository;
+    private final UserRepository userRepository;
+
+    public UserPageResponse listUsers(UserListFilter filter, String cursor, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        UserCursor after = cursor != null ? decodeCursor(cursor) : null;
+
+        // One extra row tells whether another page follows
+        List<AdminUserResponse> rows = userListingRepository.findPage(filter, after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new UserPageResponse(rows, null);
+        }
+
+        List<AdminUserResponse> page = rows.subList(0, pageSize);
+        return new UserPageResponse(List.copyOf(page), encodeCursor(page.getLast()));
+    }
+
+    /**
+     * Pass every user matching the filter to the consumer, streaming from the database.
+     */
+    @Transactional(readOnly = true)
+    public void exportUsers(UserListFilter filter, Consumer<AdminUserResponse> consumer) {
+        AtomicLong exported = new AtomicLong();
+        userListingRepository.forEach(filter, user -> {
+            consumer.accept(user);
+            exported.incrementAndGet();
+        });
+        log.info("Exported {} users (role: {}, deleted: {})", exported.get(), filter.role(), filter.deleted());
+    }
+
+    /**
+     * Search active users by a part of their username, email, first or last name, ignoring case.
+     */
+    public UserSearchResponse searchUsers(String query, int page, int size) {
+        String term = query == null ? "" : query.strip().toLowerCase(Locale.ROOT);
+        if (term.length() < MIN_SEARCH_LENGTH) {
+            throw new InvalidRequestParameterException(
+                    "Search query must be at least " + MIN_SEARCH_LENGTH + " characters long");
+        }
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.clamp(size, 1, MAX_SEARCH_PAGE_SIZE);
+
+        // One extra row tells whether another page follows
+        List<UserSearchView> hits = userRepository.search(term, "%" + escapeLikePattern(term) + "%",
+                MAX_SEARCH_CANDIDATES, pageSize + 1, (long) pageNumber * pageSize);
+        boolean hasNext = hits.size() > pageSize;
+        List<UserSearchResult> results = hits.stream()
+                .limit(pageSize)
+                .map(AdminUserService::toSearchResult)
+                .toList();
+        return new UserSearchResponse(results, pageNumber, pageSize, hasNext);
+    }
+
+    static String encodeCursor(AdminUserResponse user) {
+        String position = user.createdAt().toString() + CURSOR_SEPARATOR + user.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static UserCursor decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidRequestParameterException("Invalid cursor");
+            }
+            return new UserCursor(
+                    LocalDateTime.parse(position.substring(0, separator)),
+                    UUID.fromString(position.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestParameterException("Invalid cursor");
+        }
+    }
+
+    private static UserSearchResult toSearchResult(UserSearchView hit) {
+        return new UserSearchResult(hit.getId(), hit.getUsername(), hit.getEmail(), hit.getFirstName(),
+                hit.getLastName(), Role.valueOf(hit.getRole()), hit.getScore());
+    }
+
+    // Backslash is the default LIKE escape character in PostgreSQL
+    private static String escapeLikePattern(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
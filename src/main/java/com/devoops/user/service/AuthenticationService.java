@@ -1,20 +1,30 @@
 package com.devoops.user.service;
 
+import com.devoops.user.config.ReadYourWritesWindow;
 import com.devoops.user.dto.request.LoginRequest;
 import com.devoops.user.dto.request.RegisterRequest;
 import com.devoops.user.dto.response.AuthenticationResponse;
+import com.devoops.user.entity.Role;
 import com.devoops.user.entity.User;
 import com.devoops.user.exception.InvalidCredentialsException;
+import com.devoops.user.exception.InvalidRequestParameterException;
+import com.devoops.user.exception.ServiceOverloadedException;
 import com.devoops.user.exception.UserAlreadyExistsException;
 import com.devoops.user.mapper.UserMapper;
+import com.devoops.user.metrics.OperationTimer;
+import com.devoops.user.metrics.Outcome;
 import com.devoops.user.repository.UserRepository;
 import com.devoops.user.security.JwtService;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+import java.util.UUID;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -25,54 +35,122 @@ public class AuthenticationService {
     private final JwtService jwtService;
     private final UserMapper userMapper;
     private final UserEventPublisherService userEventPublisherService;
+    private final AvailabilityService availabilityService;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final OperationTimer operationTimer;
 
     @Transactional
     public AuthenticationResponse register(RegisterRequest request) {
-        log.info("Registration attempt for username: {}, email: {}", request.username(), request.email());
+        return operationTimer.record("auth.register", () -> registerUser(request));
+    }
 
-        if (userRepository.existsByUsername(request.username())) {
-            log.warn("Registration failed - username already exists: {}", request.username());
-            throw new UserAlreadyExistsException("Username already taken: " + request.username());
-        }
+    public AuthenticationResponse login(LoginRequest request) {
+        return operationTimer.record("auth.login", () -> authenticate(request));
+    }
 
-        if (userRepository.existsByEmail(request.email())) {
-            log.warn("Registration failed - email already exists: {}", request.email());
-            throw new UserAlreadyExistsException("Email already registered: " + request.email());
+    private AuthenticationResponse registerUser(RegisterRequest request) {
+        log.info("Registration attempt for username: {}, email: {}", request.username(), request.email());
+
+        // Administrators are promoted in the database, see V7__add_admin_role.sql
+        if (request.role() == Role.ADMIN) {
+            throw new InvalidRequestParameterException("Role must be HOST or GUEST");
         }
 
         User user = userMapper.toEntity(request);
-        user.setPassword(passwordEncoder.encode(request.password()));
+        user.setId(UUID.randomUUID());
+        user.setPassword(operationTimer.record("auth.register.password", () -> passwordEncoder.encode(request.password())));
+
+        // One round trip: the unique indexes reject duplicates, the existence check only runs on conflict
+        if (!operationTimer.record("auth.register.insert", () -> userRepository.insertIfAbsent(user))) {
+            throw registrationConflict(request);
+        }
+        availabilityService.recordTaken(user.getUsername(), user.getEmail());
+        readYourWritesWindow.recordWrite(user.getId());
 
-        User savedUser = userRepository.save(user);
-        String token = jwtService.generateToken(savedUser);
+        String token = generateToken(user);
 
         log.info("Registration successful for user: {} (id: {}, role: {})",
-                savedUser.getUsername(), savedUser.getId(), savedUser.getRole());
+                user.getUsername(), user.getId(), user.getRole());
 
-        userEventPublisherService.publishUserCreated(savedUser.getId(), savedUser.getEmail());
+        userEventPublisherService.publishUserCreated(user.getId(), user.getEmail());
 
-        return new AuthenticationResponse(token, jwtService.getExpirationTime(), userMapper.toUserResponse(savedUser));
+        return new AuthenticationResponse(token, jwtService.getExpirationTime(), userMapper.toUserResponse(user));
     }
 
-    public AuthenticationResponse login(LoginRequest request) {
+    private AuthenticationResponse authenticate(LoginRequest request) {
         log.info("Login attempt for: {}", request.usernameOrEmail());
 
-        User user = userRepository.findByUsernameOrEmail(request.usernameOrEmail(), request.usernameOrEmail())
-            .orElseThrow(() -> {
-                log.warn("Login failed - user not found: {}", request.usernameOrEmail());
-                return new InvalidCredentialsException("Invalid username/email or password");
-            });
+        // Timed by hand, since an unknown user surfaces as invalid credentials to the caller
+        Timer.Sample lookup = operationTimer.start();
+        Optional<User> found = findForLogin(request.usernameOrEmail());
+        operationTimer.stop(lookup, "auth.login.lookup", found.isPresent() ? Outcome.SUCCESS : Outcome.USER_NOT_FOUND);
 
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
-            log.warn("Login failed - invalid password for user: {}", user.getUsername());
-            throw new InvalidCredentialsException("Invalid username/email or password");
-        }
+        User user = found.orElseThrow(() -> {
+            log.warn("Login failed - user not found: {}", request.usernameOrEmail());
+            return new InvalidCredentialsException("Invalid username/email or password");
+        });
+
+        operationTimer.run("auth.login.password", () -> {
+            if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+                log.warn("Login failed - invalid password for user: {}", user.getUsername());
+                throw new InvalidCredentialsException("Invalid username/email or password");
+            }
+        });
 
-        String token = jwtService.generateToken(user);
+        rehashIfOutdated(user, request.password());
+
+        String token = generateToken(user);
 
         log.info("Login successful for user: {} (id: {}, role: {})",
                 user.getUsername(), user.getId(), user.getRole());
 
         return new AuthenticationResponse(token, jwtService.getExpirationTime(), userMapper.toUserResponse(user));
     }
+
+    private String generateToken(User user) {
+        return operationTimer.record("auth.token", () -> jwtService.generateToken(user));
+    }
+
+    private UserAlreadyExistsException registrationConflict(RegisterRequest request) {
+        if (userRepository.existsByUsername(request.username())) {
+            log.warn("Registration failed - username already exists: {}", request.username());
+            return new UserAlreadyExistsException("Username already taken: " + request.username());
+        }
+        log.warn("Registration failed - email already exists: {}", request.email());
+        return new UserAlreadyExistsException("Email already registered: " + request.email());
+    }
+
+    /**
+     * Look the user up by email or by username, ignoring case, so each login hits exactly one index.
+     * Usernames may contain '@', so an input that looks like an email falls back to the username index.
+     */
+    private Optional<User> findForLogin(String usernameOrEmail) {
+        if (usernameOrEmail.indexOf('@') >= 0) {
+            Optional<User> byEmail = userRepository.findActiveByEmailIgnoreCase(usernameOrEmail);
+            if (byEmail.isPresent()) {
+                return byEmail;
+            }
+        }
+        return userRepository.findActiveByUsernameIgnoreCase(usernameOrEmail);
+    }
+
+    /**
+     * Re-hash the password with the currently configured algorithm and cost when the stored
+     * hash was produced with different settings. Runs only after a successful match, which is
+     * the only time the raw password is available.
+     */
+    private void rehashIfOutdated(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+
+        try {
+            user.setPassword(passwordEncoder.encode(rawPassword));
+            userRepository.save(user);
+            log.info("Re-hashed outdated password for user: {}", user.getUsername());
+        } catch (ServiceOverloadedException e) {
+            // The login itself succeeded; the upgrade is retried on the next login
+            log.warn("Skipped password re-hash for user {}: {}", user.getUsername(), e.getMessage());
+        }
+    }
 }
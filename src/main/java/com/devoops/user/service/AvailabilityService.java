@@ -0,0 +1,267 @@
+package com.devoops.user.service;
+
+import com.devoops.user.config.ReplicaRoutingDataSource;
+import com.devoops.user.dto.response.AvailabilityResponse;
+import com.devoops.user.repository.UserRepository;
+import com.devoops.user.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * Answers username and email availability checks, mostly without touching the database.
+ * <p>
+ * In-process Bloom filters hold every taken username and email, normalized to lower case. A miss
+ * means the value is definitely free; a possible hit is confirmed with the indexed
+ * {@code existsBy*} queries. The filters only ever grow between rebuilds: registrations and
+ * profile changes are added immediately, while deletions, and registrations handled by other
+ * instances, are picked up by the periodic rebuild once the filters are older than their maximum
+ * age or fuller than their maximum fill ratio. Deletions only cause false positives, which the
+ * database check absorbs, so they do not trigger a rebuild on their own. The answer is advisory;
+ * registration itself still enforces uniqueness.
+ * <p>
+ * Values recorded while a rebuild is reading its snapshot are buffered and replayed into the new
+ * filters before they are published, and values recorded inside a transaction are recorded again
+ * after commit, so a rebuild never drops a value whose row the snapshot did not see. The snapshot
+ * is streamed from the primary in one read-only transaction, one value at a time, so a rebuild
+ * never holds every username and email in memory at once.
+ */
+@Slf4j
+@Service
+public class AvailabilityService {
+
+    private static final String METRIC_PREFIX = "availability.bloom";
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final double falsePositiveRate;
+    private final Duration maxAge;
+    private final double maxFillRatio;
+    private final ReadWriteLock publishLock = new ReentrantReadWriteLock();
+    private final Counter definitelyFreeCounter;
+    private final Counter confirmedTakenCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile Filters filters;
+
+    // Values recorded since the running rebuild started reading; null when no rebuild is running
+    private Queue<Taken> recordedDuringRebuild;
+
+    public AvailabilityService(
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${availability.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${availability.bloom.max-age-ms:600000}") long maxAgeMs,
+            @Value("${availability.bloom.max-fill-ratio:0.5}") double maxFillRatio
+    ) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxAge = Duration.ofMillis(maxAgeMs);
+        this.maxFillRatio = maxFillRatio;
+        this.definitelyFreeCounter = lookupCounter(meterRegistry, "definitely_free");
+        this.confirmedTakenCounter = lookupCounter(meterRegistry, "taken");
+        this.falsePositiveCounter = lookupCounter(meterRegistry, "false_positive");
+        registerFilterGauges(meterRegistry, "username", Filters::usernames);
+        registerFilterGauges(meterRegistry, "email", Filters::emails);
+    }
+
+    public AvailabilityResponse check(String username, String email) {
+        Boolean usernameAvailable = isBlank(username) ? null
+                : isAvailable(username.trim(), Filters::usernames, userRepository::existsByUsername);
+        Boolean emailAvailable = isBlank(email) ? null
+                : isAvailable(email.trim(), Filters::emails, userRepository::existsByEmail);
+        return new AvailabilityResponse(usernameAvailable, emailAvailable);
+    }
+
+    /**
+     * Mark a username and/or email as taken; either may be {@code null}. Inside a transaction the
+     * values are recorded again after commit, when a rebuild's snapshot can see the row.
+     */
+    public void recordTaken(String username, String email) {
+        Taken taken = new Taken(username != null ? normalize(username) : null, email != null ? normalize(email) : null);
+        record(taken);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(taken);
+                }
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        publishLock.writeLock().lock();
+        try {
+            recordedDuringRebuild = new ConcurrentLinkedQueue<>();
+        } finally {
+            publishLock.writeLock().unlock();
+        }
+
+        Filters rebuilt;
+        try {
+            // The replica may lag behind values already recorded after commit
+            rebuilt = ReplicaRoutingDataSource.onPrimary(() -> readOnlyTransaction.execute(status -> readSnapshot()));
+        } catch (RuntimeException e) {
+            discardRecordedDuringRebuild();
+            throw e;
+        }
+
+        publishLock.writeLock().lock();
+        try {
+            recordedDuringRebuild.forEach(taken -> put(rebuilt, taken));
+            recordedDuringRebuild = null;
+            filters = rebuilt;
+        } finally {
+            publishLock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${availability.bloom.check-interval-ms:60000}")
+    public void rebuildIfStale() {
+        Filters current = filters;
+        if (current == null) {
+            return;
+        }
+        boolean expired = current.builtAt().plus(maxAge).isBefore(Instant.now());
+        boolean full = current.usernames().fillRatio() > maxFillRatio || current.emails().fillRatio() > maxFillRatio;
+        if (expired || full) {
+            rebuild();
+        }
+    }
+
+    private void record(Taken taken) {
+        publishLock.readLock().lock();
+        try {
+            Filters current = filters;
+            if (current != null) {
+                put(current, taken);
+            }
+            if (recordedDuringRebuild != null) {
+                recordedDuringRebuild.add(taken);
+            }
+        } finally {
+            publishLock.readLock().unlock();
+        }
+    }
+
+    private void discardRecordedDuringRebuild() {
+        publishLock.writeLock().lock();
+        try {
+            recordedDuringRebuild = null;
+        } finally {
+            publishLock.writeLock().unlock();
+        }
+    }
+
+    private static void put(Filters target, Taken taken) {
+        if (taken.username() != null) {
+            target.usernames().put(taken.username());
+        }
+        if (taken.email() != null) {
+            target.emails().put(taken.email());
+        }
+    }
+
+    // The database check gets the value as entered, since deleted users keep their exact username
+    private boolean isAvailable(String value, Function<Filters, BloomFilter> filter, Predicate<String> existsInDatabase) {
+        Filters current = filters;
+        if (current != null && !filter.apply(current).mightContain(normalize(value))) {
+            definitelyFreeCounter.increment();
+            return true;
+        }
+
+        boolean taken = existsInDatabase.test(value);
+        if (current != null) {
+            (taken ? confirmedTakenCounter : falsePositiveCounter).increment();
+        }
+        return !taken;
+    }
+
+    private Filters readSnapshot() {
+        // Every user holds a username, so the count sizes both filters; leave headroom for
+        // registrations until the next rebuild
+        long expectedValues = Math.max(1_000, userRepository.count() * 2);
+        BloomFilter usernames = BloomFilter.create(expectedValues, falsePositiveRate);
+        BloomFilter emails = BloomFilter.create(expectedValues, falsePositiveRate);
+        long usernameCount = fill(usernames, userRepository.findAllNormalizedUsernames());
+        long emailCount = fill(emails, userRepository.findAllNormalizedActiveEmails());
+        log.info("Rebuilt availability filters with {} usernames and {} emails", usernameCount, emailCount);
+        return new Filters(usernames, emails, Instant.now());
+    }
+
+    private static long fill(BloomFilter filter, Stream<String> values) {
+        long count = 0;
+        try (values) {
+            for (String value : (Iterable<String>) values::iterator) {
+                filter.put(value);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".lookups")
+                .description("Availability lookups by how they were answered")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void registerFilterGauges(MeterRegistry meterRegistry, String name, Function<Filters, BloomFilter> filter) {
+        Gauge.builder(METRIC_PREFIX + ".fill.ratio", this, service -> service.measure(filter, BloomFilter::fillRatio))
+                .description("Fraction of bits set in the availability Bloom filter")
+                .tag("filter", name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".false.positive.rate", this,
+                        service -> service.measure(filter, BloomFilter::expectedFalsePositiveRate))
+                .description("Expected false-positive rate of the availability Bloom filter at its current fill")
+                .tag("filter", name)
+                .register(meterRegistry);
+    }
+
+    private double measure(Function<Filters, BloomFilter> filter, ToDoubleFunction<BloomFilter> metric) {
+        Filters current = filters;
+        return current != null ? metric.applyAsDouble(filter.apply(current)) : Double.NaN;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails, Instant builtAt) {
+    }
+
+    private record Taken(String username, String email) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.devoops.user.service;
+
+import com.devoops.user.entity.OutboxEvent;
+import com.devoops.user.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Drains the outbox to RabbitMQ in batches. Each batch is locked, published, confirmed by the
+ * broker and deleted in one database transaction; if publishing or confirming fails the
+ * transaction rolls back and the batch is retried on the next run.
+ * <p>
+ * Delivery is at least once: a crash between the broker confirm and the commit re-sends the
+ * batch, so consumers must tolerate duplicates.
+ */
+@Slf4j
+@Service
+public class OutboxRelayService {
+
+    static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long confirmTimeoutMs;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+
+    public OutboxRelayService(
+            OutboxEventRepository outboxEventRepository,
+            RabbitTemplate rabbitTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.confirm-timeout-ms:5000}") long confirmTimeoutMs
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.publishedCounter = Counter.builder("outbox.events.published")
+                .description("Outbox events published to RabbitMQ and confirmed by the broker")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.failures")
+                .description("Outbox batches that failed to publish and will be retried")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relayPendingEvents() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("Failed to relay outbox events, retrying on the next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Publish and delete one batch of pending events.
+     *
+     * @return the number of events relayed
+     */
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.lockNextBatch(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            rabbitTemplate.invoke(operations -> {
+                events.forEach(event -> operations.send(event.getExchange(), event.getRoutingKey(), toMessage(event)));
+                operations.waitForConfirmsOrDie(confirmTimeoutMs);
+                return null;
+            });
+
+            outboxEventRepository.deleteAllInBatch(events);
+            return events.size();
+        });
+
+        if (relayed != null && relayed > 0) {
+            publishedCounter.increment(relayed);
+            log.debug("Relayed {} outbox events", relayed);
+        }
+        return relayed != null ? relayed : 0;
+    }
+
+    private static Message toMessage(OutboxEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setHeader(TYPE_ID_HEADER, event.getTypeId());
+        return new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
@@ -0,0 +1,90 @@
+package com.devoops.user.service;
+
+import com.devoops.user.dto.response.UserResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of serialized profile responses keyed by user ID, so polling clients are answered
+ * without a database read or JSON serialization.
+ * <p>
+ * {@link UserService} evicts an entry whenever the user changes. The TTL bounds how long another
+ * instance may keep serving the previous version.
+ */
+@Component
+public class ProfileCache {
+
+    private static final String CACHE_NAME = "user.profile";
+
+    private final JsonMapper jsonMapper;
+    private final Cache<UUID, ProfileSnapshot> cache;
+
+    public ProfileCache(
+            @Value("${profile.cache.max-size:10000}") long maxSize,
+            @Value("${profile.cache.ttl-ms:30000}") long ttlMs,
+            MeterRegistry meterRegistry,
+            JsonMapper jsonMapper
+    ) {
+        this.jsonMapper = jsonMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public ProfileSnapshot get(UUID userId, Function<UUID, ProfileSnapshot> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * Evict the profile of a user, and again after commit when called inside a transaction.
+     */
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Serialize a profile with the application's mapper, so the cached body matches what Spring MVC
+     * would write, and derive its strong ETag from the user ID and last modification time, which
+     * changes on every update of the row.
+     */
+    public ProfileSnapshot snapshotOf(UserResponse response, LocalDateTime updatedAt) {
+        return new ProfileSnapshot(etagOf(response.id(), updatedAt), jsonMapper.writeValueAsBytes(response));
+    }
+
+    private static String etagOf(UUID userId, LocalDateTime updatedAt) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((userId + ":" + updatedAt).getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
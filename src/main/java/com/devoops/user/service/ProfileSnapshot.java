@@ -0,0 +1,8 @@
+package com.devoops.user.service;
+
+/**
+ * A serialized {@link com.devoops.user.dto.response.UserResponse} together with its strong ETag.
+ * The body is shared between requests and must not be modified.
+ */
+public record ProfileSnapshot(String etag, byte[] body) {
+}
@@ -1,20 +1,35 @@
 package com.devoops.user.service;
 
 import com.devoops.user.dto.message.UserCreatedMessage;
+import com.devoops.user.entity.OutboxEvent;
+import com.devoops.user.metrics.OperationTimer;
+import com.devoops.user.repository.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
+/**
+ * Records domain events in the outbox as part of the caller's transaction, so an event is
+ * published if and only if the change it describes commits. {@link OutboxRelayService}
+ * delivers them to RabbitMQ afterwards.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserEventPublisherService {
 
     private final RabbitTemplate rabbitTemplate;
+    private final OutboxEventRepository outboxEventRepository;
+    private final OperationTimer operationTimer;
 
     @Value("${rabbitmq.exchange.notification}")
     private String notificationExchange;
@@ -22,14 +37,25 @@ public class UserEventPublisherService {
     @Value("${rabbitmq.routing-key.user-created}")
     private String userCreatedRoutingKey;
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishUserCreated(UUID userId, String email) {
         UserCreatedMessage message = UserCreatedMessage.builder()
                 .userId(userId)
                 .userEmail(email)
                 .build();
 
-        log.info("Publishing user.created event for userId: {}, email: {}", userId, email);
-        rabbitTemplate.convertAndSend(notificationExchange, userCreatedRoutingKey, message);
-        log.debug("Successfully published user.created event for userId: {}", userId);
+        log.info("Queueing user.created event for userId: {}, email: {}", userId, email);
+        operationTimer.run("event.user_created", () -> enqueue(notificationExchange, userCreatedRoutingKey, message));
+    }
+
+    private void enqueue(String exchange, String routingKey, Object payload) {
+        // Serialize now with the same converter the template uses, so the relay sends the body as is
+        Message message = rabbitTemplate.getMessageConverter().toMessage(payload, new MessageProperties());
+        outboxEventRepository.save(OutboxEvent.builder()
+                .exchange(exchange)
+                .routingKey(routingKey)
+                .typeId(message.getMessageProperties().getHeader(OutboxRelayService.TYPE_ID_HEADER))
+                .payload(new String(message.getBody(), StandardCharsets.UTF_8))
+                .build());
     }
 }
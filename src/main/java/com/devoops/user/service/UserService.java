@@ -1,8 +1,10 @@
 package com.devoops.user.service;
 
+import com.devoops.user.config.ReadYourWritesWindow;
 import com.devoops.user.dto.request.ChangePasswordRequest;
 import com.devoops.user.dto.request.UpdateUserRequest;
 import com.devoops.user.dto.response.AuthenticationResponse;
+import com.devoops.user.dto.response.UserBatchEntry;
 import com.devoops.user.dto.response.UserResponse;
 import com.devoops.user.entity.Role;
 import com.devoops.user.entity.User;
@@ -14,8 +16,11 @@ import com.devoops.user.grpc.AccommodationGrpcClient;
 import com.devoops.user.grpc.CascadeDeleteResult;
 import com.devoops.user.grpc.DeletionCheckResult;
 import com.devoops.user.grpc.ReservationGrpcClient;
+import com.devoops.user.grpc.UserSummaryCache;
 import com.devoops.user.mapper.UserMapper;
+import com.devoops.user.metrics.OperationTimer;
 import com.devoops.user.repository.UserRepository;
+import com.devoops.user.repository.projection.UserProfileView;
 import com.devoops.user.security.JwtService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +28,15 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -36,26 +49,114 @@ public class UserService {
     private final JwtService jwtService;
     private final ReservationGrpcClient reservationGrpcClient;
     private final AccommodationGrpcClient accommodationGrpcClient;
+    private final UserSummaryCache userSummaryCache;
+    private final AvailabilityService availabilityService;
+    private final ProfileCache profileCache;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final OperationTimer operationTimer;
 
-    public UserResponse getProfile(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User does not exist"));
-        return userMapper.toUserResponse(user);
+    /**
+     * Return the serialized profile of a user with its ETag, from the profile cache when possible.
+     */
+    public ProfileSnapshot getProfileSnapshot(UUID userId) {
+        return profileCache.get(userId, this::loadProfileSnapshot);
+    }
+
+    private ProfileSnapshot loadProfileSnapshot(UUID userId) {
+        UserProfileView profile = operationTimer.record("profile.load", () ->
+                readYourWritesWindow.read(userId, () -> userRepository.findProfileById(userId))
+                        .orElseThrow(() -> new UserNotFoundException("User does not exist")));
+        return profileCache.snapshotOf(userMapper.toUserResponse(profile), profile.updatedAt());
+    }
+
+    /**
+     * Look up many active users with one query, passing each entry to the consumer as soon as its
+     * row is read. Found users come first, in database order, followed by a 404 entry for every
+     * requested ID that is unknown, deleted or malformed. Duplicate IDs are answered once.
+     */
+    @Transactional(readOnly = true)
+    public void streamProfiles(List<String> rawIds, Consumer<UserBatchEntry> consumer) {
+        Map<UUID, String> requested = new LinkedHashMap<>();
+        List<String> malformed = new ArrayList<>();
+        for (String rawId : rawIds) {
+            UUID userId = parseUserId(rawId);
+            if (userId != null) {
+                requested.putIfAbsent(userId, rawId);
+            } else if (!malformed.contains(rawId)) {
+                malformed.add(rawId);
+            }
+        }
+
+        Set<UUID> found = requested.isEmpty()
+                ? Set.of()
+                : operationTimer.record("profile.batch", () ->
+                        readYourWritesWindow.read(requested.keySet(), () -> streamFound(requested.keySet(), consumer)));
+
+        requested.forEach((userId, rawId) -> {
+            if (!found.contains(userId)) {
+                consumer.accept(UserBatchEntry.notFound(rawId));
+            }
+        });
+        malformed.forEach(rawId -> consumer.accept(UserBatchEntry.notFound(rawId)));
+        log.debug("Streamed {} of {} requested user profiles", found.size(), requested.size() + malformed.size());
+    }
+
+    private Set<UUID> streamFound(Set<UUID> userIds, Consumer<UserBatchEntry> consumer) {
+        Set<UUID> found = new HashSet<>();
+        try (Stream<UserResponse> profiles = userRepository.streamProfilesByIdIn(userIds)) {
+            profiles.forEach(profile -> {
+                found.add(profile.id());
+                consumer.accept(UserBatchEntry.found(profile));
+            });
+        }
+        return found;
     }
 
     public AuthenticationResponse updateProfile(UUID userId, UpdateUserRequest request) {
+        return operationTimer.record("profile.update", () -> applyProfileUpdate(userId, request));
+    }
+
+    public void changePassword(UUID userId, ChangePasswordRequest request) {
+        operationTimer.run("profile.change_password", () -> replacePassword(userId, request));
+    }
+
+    /**
+     * Delete a user account.
+     * <p>
+     * Guests can only delete their account if they have no active reservations
+     * (PENDING or APPROVED with endDate >= today).
+     * <p>
+     * Hosts can only delete their account if no future reservations exist for any
+     * of their accommodations. When a host deletes their account, all their
+     * accommodations are also soft-deleted.
+     *
+     * This method is deliberately not transactional: the remote checks carry their own deadlines
+     * and must not hold a database connection while they wait. The host check and the cascade
+     * cannot run concurrently, since accommodations may only be deleted once the check passed.
+     *
+     * @param userId the ID of the user to delete
+     * @throws AccountDeletionException if the account cannot be deleted
+     */
+    public void deleteAccount(UUID userId) {
+        operationTimer.run("account.delete", () -> softDeleteAccount(userId));
+    }
+
+    private AuthenticationResponse applyProfileUpdate(UUID userId, UpdateUserRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User does not exist"));
 
+        // A case-only change keeps the login the user already holds, so it cannot collide with anyone
         if (request.username() != null && !request.username().equals(user.getUsername())) {
-            if (userRepository.existsByUsername(request.username())) {
+            if (!request.username().equalsIgnoreCase(user.getUsername())
+                    && userRepository.existsByUsername(request.username())) {
                 throw new UserAlreadyExistsException("Username already taken");
             }
             user.setUsername(request.username());
         }
 
         if (request.email() != null && !request.email().equals(user.getEmail())) {
-            if (userRepository.existsByEmail(request.email())) {
+            if (!request.email().equalsIgnoreCase(user.getEmail())
+                    && userRepository.existsByEmail(request.email())) {
                 throw new UserAlreadyExistsException("Email already taken");
             }
             user.setEmail(request.email());
@@ -66,10 +167,15 @@ public class UserService {
         if (request.residence() != null) user.setResidence(request.residence());
 
         User saved = userRepository.save(user);
-        return new AuthenticationResponse(jwtService.generateToken(saved), jwtService.getExpirationTime(), userMapper.toUserResponse(saved));
+        readYourWritesWindow.recordWrite(userId);
+        userSummaryCache.invalidate(userId);
+        profileCache.invalidate(userId);
+        availabilityService.recordTaken(request.username(), request.email());
+        String token = operationTimer.record("auth.token", () -> jwtService.generateToken(saved));
+        return new AuthenticationResponse(token, jwtService.getExpirationTime(), userMapper.toUserResponse(saved));
     }
 
-    public void changePassword(UUID userId, ChangePasswordRequest request) {
+    private void replacePassword(UUID userId, ChangePasswordRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User does not exist"));
 
@@ -79,23 +185,11 @@ public class UserService {
 
         user.setPassword(passwordEncoder.encode(request.newPassword()));
         userRepository.save(user);
+        readYourWritesWindow.recordWrite(userId);
+        profileCache.invalidate(userId);
     }
 
-    /**
-     * Delete a user account.
-     * <p>
-     * Guests can only delete their account if they have no active reservations
-     * (PENDING or APPROVED with endDate >= today).
-     * <p>
-     * Hosts can only delete their account if no future reservations exist for any
-     * of their accommodations. When a host deletes their account, all their
-     * accommodations are also soft-deleted.
-     *
-     * @param userId the ID of the user to delete
-     * @throws AccountDeletionException if the account cannot be deleted
-     */
-    @Transactional
-    public void deleteAccount(UUID userId) {
+    private void softDeleteAccount(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User does not exist"));
 
@@ -137,7 +231,21 @@ public class UserService {
         // Soft delete the user
         user.setDeleted(true);
         userRepository.save(user);
+        readYourWritesWindow.recordWrite(userId);
+        userSummaryCache.invalidate(userId);
+        profileCache.invalidate(userId);
 
         log.info("Successfully deleted account for user {}", userId);
     }
+
+    private UUID parseUserId(String userId) {
+        if (userId == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(userId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,14 @@
+-- V3__create_outbox_events.sql
+
+-- Messages written in the same transaction as the change they describe,
+-- relayed to RabbitMQ and deleted once the broker has confirmed them
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+
+    exchange VARCHAR(255) NOT NULL,
+    routing_key VARCHAR(255) NOT NULL,
+    type_id VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,39 @@
+-- V4__add_case_insensitive_login_indexes.sql
+
+-- Login and uniqueness checks compare lower-cased values among active users.
+-- The predicates must match the queries in UserRepository for the planner to use these indexes.
+--
+-- V1 only made the exact username unique and email not at all, so active users may already share
+-- a username that differs in case, or an email. The check below stops the migration with the
+-- conflicting values instead of failing on the index build. Resolve them by hand, e.g. soft-delete
+-- the stale account or give it a distinct email:
+--   UPDATE users SET is_deleted = true WHERE id = '<id>';
+-- and restart; Flyway retries the migration.
+--
+-- Runs outside a transaction (see the .sql.conf file) so the indexes are built CONCURRENTLY,
+-- without blocking writes to users. A build that failed halfway leaves an invalid index behind,
+-- which is dropped first so the migration can simply be retried.
+DO $$
+DECLARE
+    conflicts TEXT;
+BEGIN
+    SELECT string_agg(duplicate, ', ') INTO conflicts
+    FROM (SELECT 'username ' || lower(username) AS duplicate
+          FROM users WHERE is_deleted = false
+          GROUP BY lower(username) HAVING count(*) > 1
+          UNION ALL
+          SELECT 'email ' || lower(email)
+          FROM users WHERE is_deleted = false
+          GROUP BY lower(email) HAVING count(*) > 1
+          LIMIT 50) AS duplicates;
+    IF conflicts IS NOT NULL THEN
+        RAISE EXCEPTION 'Active users share case-insensitive login values: %', conflicts
+            USING HINT = 'Soft-delete or change the conflicting accounts, then restart to retry the migration.';
+    END IF;
+END $$;
+
+DROP INDEX CONCURRENTLY IF EXISTS ux_users_username_lower_active;
+CREATE UNIQUE INDEX CONCURRENTLY ux_users_username_lower_active ON users (lower(username)) WHERE is_deleted = false;
+
+DROP INDEX CONCURRENTLY IF EXISTS ux_users_email_lower_active;
+CREATE UNIQUE INDEX CONCURRENTLY ux_users_email_lower_active ON users (lower(email)) WHERE is_deleted = false;
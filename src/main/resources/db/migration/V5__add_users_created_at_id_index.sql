@@ -0,0 +1,4 @@
+-- V5__add_users_created_at_id_index.sql
+
+-- Keyset pagination and exports of the admin user listing walk users in (created_at, id) order
+CREATE INDEX ix_users_created_at_id ON users (created_at, id);
@@ -0,0 +1,9 @@
+-- V6__add_user_search_trigram_index.sql
+
+-- Substring search over username, email and name of active users.
+-- The indexed expression must match UserRepository.SEARCH_TEXT exactly for the planner to use it.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX ix_users_search_trgm ON users
+    USING gin (lower(username || ' ' || email || ' ' || first_name || ' ' || last_name) gin_trgm_ops)
+    WHERE is_deleted = false;
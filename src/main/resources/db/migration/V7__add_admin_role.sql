@@ -0,0 +1,7 @@
+-- V7__add_admin_role.sql
+
+-- Support staff using the admin user listing, export and search. ADMIN cannot be chosen at
+-- registration; promote an existing account with
+--   UPDATE users SET role = 'ADMIN' WHERE username = '<username>';
+-- The new role appears in the JWT role claim, and so in X-User-Role, from the user's next login.
+ALTER TYPE user_role ADD VALUE IF NOT EXISTS 'ADMIN';
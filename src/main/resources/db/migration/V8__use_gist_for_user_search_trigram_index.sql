@@ -0,0 +1,20 @@
+-- V8__use_gist_for_user_search_trigram_index.sql
+
+-- UserRepository.search takes the candidates nearest to the query by trigram word distance
+-- (search_text <->> query) before ranking them. GIN can only filter the LIKE match; GiST also
+-- returns rows in distance order, so the top candidates are read from the index instead of
+-- scoring every match. Same expression and predicate as before.
+--
+-- Runs outside a transaction (see the .sql.conf file) so the new index is built CONCURRENTLY,
+-- without blocking writes to users, and swapped in under the old name once it is ready. A build
+-- that failed halfway leaves an invalid index behind, which is dropped first so the migration
+-- can simply be retried.
+DROP INDEX CONCURRENTLY IF EXISTS ix_users_search_trgm_gist;
+
+CREATE INDEX CONCURRENTLY ix_users_search_trgm_gist ON users
+    USING gist (lower(username || ' ' || email || ' ' || first_name || ' ' || last_name) gist_trgm_ops)
+    WHERE is_deleted = false;
+
+DROP INDEX CONCURRENTLY IF EXISTS ix_users_search_trgm;
+
+ALTER INDEX ix_users_search_trgm_gist RENAME TO ix_users_search_trgm;
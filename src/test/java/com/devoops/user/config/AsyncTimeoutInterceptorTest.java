@@ -0,0 +1,50 @@
+package com.devoops.user.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncTimeoutInterceptorTest {
+
+    private final AsyncTimeoutInterceptor interceptor = new AsyncTimeoutInterceptor();
+
+    @Test
+    @DisplayName("Should apply the timeout a handler stored on the request")
+    void beforeConcurrentHandling_WithTimeoutAttribute_SetsTimeout() {
+        // Given
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.setAsyncSupported(true);
+        servletRequest.setAttribute(AsyncTimeoutInterceptor.TIMEOUT_ATTRIBUTE, 600_000L);
+        StandardServletAsyncWebRequest request =
+                new StandardServletAsyncWebRequest(servletRequest, new MockHttpServletResponse());
+
+        // When
+        interceptor.beforeConcurrentHandling(request, () -> null);
+        request.startAsync();
+
+        // Then
+        assertThat(servletRequest.getAsyncContext().getTimeout()).isEqualTo(600_000L);
+    }
+
+    @Test
+    @DisplayName("Should leave the default timeout for other requests")
+    void beforeConcurrentHandling_WithoutTimeoutAttribute_KeepsDefault() {
+        // Given
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.setAsyncSupported(true);
+        StandardServletAsyncWebRequest request =
+                new StandardServletAsyncWebRequest(servletRequest, new MockHttpServletResponse());
+        request.setTimeout(30_000L);
+
+        // When
+        interceptor.beforeConcurrentHandling(request, () -> null);
+        request.startAsync();
+
+        // Then
+        assertThat(servletRequest.getAsyncContext().getTimeout()).isEqualTo(30_000L);
+    }
+}
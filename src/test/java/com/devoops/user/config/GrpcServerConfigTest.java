@@ -0,0 +1,78 @@
+package com.devoops.user.config;
+
+import io.grpc.ServerBuilder;
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class GrpcServerConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(GrpcServerConfig.class);
+
+    @Nested
+    @DisplayName("Virtual threads")
+    class VirtualThreads {
+
+        @Test
+        @DisplayName("Should run gRPC calls on the virtual thread executor bean")
+        void configurer_UsesExecutorBean() {
+            contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+                // Given
+                ExecutorService executor = context.getBean("grpcServerExecutor", ExecutorService.class);
+                ServerBuilder<?> serverBuilder = mock(ServerBuilder.class);
+
+                // When
+                context.getBean(GrpcServerConfigurer.class).accept(serverBuilder);
+
+                // Then
+                verify(serverBuilder).executor(executor);
+                assertThat(executor.submit(() -> Thread.currentThread().isVirtual()).get()).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("Should close the executor with the context")
+        void contextClose_ClosesExecutor() {
+            // Given
+            AtomicReference<ExecutorService> executor = new AtomicReference<>();
+
+            // When
+            contextRunner.withPropertyValues("spring.threads.virtual.enabled=true")
+                    .run(context -> executor.set(context.getBean("grpcServerExecutor", ExecutorService.class)));
+
+            // Then
+            assertThat(executor.get().isTerminated()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should not offer the executor for injection by type")
+        void executor_IsNotDefaultCandidate() {
+            contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context ->
+                    assertThat(context.getBeanProvider(ExecutorService.class).getIfAvailable()).isNull());
+        }
+    }
+
+    @Nested
+    @DisplayName("Platform threads")
+    class PlatformThreads {
+
+        @Test
+        @DisplayName("Should leave grpc-java's default executor in place")
+        void noConfigurerOrExecutor() {
+            contextRunner.withPropertyValues("spring.threads.virtual.enabled=false").run(context -> {
+                assertThat(context).doesNotHaveBean(GrpcServerConfigurer.class);
+                assertThat(context).doesNotHaveBean("grpcServerExecutor");
+            });
+        }
+    }
+}
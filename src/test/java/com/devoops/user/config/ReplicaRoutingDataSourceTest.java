@@ -0,0 +1,118 @@
+package com.devoops.user.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes through two independent PostgreSQL containers standing in for the primary and the
+ * replica, told apart by their database names.
+ */
+@Testcontainers
+class ReplicaRoutingDataSourceTest {
+
+    private static final String CURRENT_DATABASE = "SELECT current_database()";
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("primary_db");
+
+    @Container
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("replica_db");
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(dataSourceOf(primary), dataSourceOf(replica)));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("Read-only transactions should run on the replica")
+    void readOnlyTransaction_RoutesToReplica() {
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).isEqualTo("replica_db");
+    }
+
+    @Test
+    @DisplayName("Read-write transactions should run on the primary")
+    void readWriteTransaction_RoutesToPrimary() {
+        assertThat(readWriteTransaction.execute(status -> currentDatabase())).isEqualTo("primary_db");
+    }
+
+    @Test
+    @DisplayName("Statements outside a transaction should run on the primary")
+    void withoutTransaction_RoutesToPrimary() {
+        assertThat(currentDatabase()).isEqualTo("primary_db");
+    }
+
+    @Test
+    @DisplayName("Read-only transactions forced onto the primary should run there")
+    void onPrimary_OverridesReadOnlyRouting() {
+        String database = ReplicaRoutingDataSource.onPrimary(
+                () -> readOnlyTransaction.execute(status -> currentDatabase()));
+
+        assertThat(database).isEqualTo("primary_db");
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).isEqualTo("replica_db");
+    }
+
+    @Test
+    @DisplayName("Reads of recently written users should stay on the primary during the window")
+    void readYourWritesWindow_KeepsRecentlyWrittenUsersOnPrimary() {
+        ReadYourWritesWindow window = new ReadYourWritesWindow(60_000);
+        UUID writtenUser = UUID.randomUUID();
+        UUID otherUser = UUID.randomUUID();
+        readWriteTransaction.executeWithoutResult(status -> window.recordWrite(writtenUser));
+
+        assertThat(window.read(writtenUser, this::currentDatabaseReadOnly)).isEqualTo("primary_db");
+        assertThat(window.read(List.of(otherUser, writtenUser), this::currentDatabaseReadOnly)).isEqualTo("primary_db");
+        assertThat(window.read(otherUser, this::currentDatabaseReadOnly)).isEqualTo("replica_db");
+    }
+
+    @Test
+    @DisplayName("Reads should return to the replica once the window has passed")
+    void readYourWritesWindow_ExpiresAfterWindow() throws InterruptedException {
+        ReadYourWritesWindow window = new ReadYourWritesWindow(50);
+        UUID writtenUser = UUID.randomUUID();
+        window.recordWrite(writtenUser);
+
+        Thread.sleep(100);
+
+        assertThat(window.read(writtenUser, this::currentDatabaseReadOnly)).isEqualTo("replica_db");
+    }
+
+    private String currentDatabaseReadOnly() {
+        return readOnlyTransaction.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class);
+    }
+
+    private static DataSource dataSourceOf(PostgreSQLContainer<?> container) {
+        return new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+}
@@ -0,0 +1,76 @@
+package com.devoops.user.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withUserConfiguration(VirtualThreadPinningMonitor.class);
+
+    @Nested
+    @DisplayName("Registration")
+    class Registration {
+
+        @Test
+        @DisplayName("Should start with virtual threads and stop with the context")
+        void virtualThreads_StartsMonitor() {
+            contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+                assertThat(context).hasSingleBean(VirtualThreadPinningMonitor.class);
+                assertThat(context.getBean(VirtualThreadPinningMonitor.class).isRunning()).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("Should not be created without virtual threads")
+        void platformThreads_NoMonitor() {
+            contextRunner.withPropertyValues("spring.threads.virtual.enabled=false").run(context ->
+                    assertThat(context).doesNotHaveBean(VirtualThreadPinningMonitor.class));
+        }
+
+        @Test
+        @DisplayName("Should not be created when disabled")
+        void disabled_NoMonitor() {
+            contextRunner.withPropertyValues(
+                    "spring.threads.virtual.enabled=true",
+                    "virtual-threads.pinning-monitor.enabled=false"
+            ).run(context -> assertThat(context).doesNotHaveBean(VirtualThreadPinningMonitor.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Pinned events")
+    class PinnedEvents {
+
+        @Test
+        @DisplayName("Should count and time each pinned event")
+        void onPinned_RecordsCountAndDuration() {
+            // Given
+            MeterRegistry meterRegistry = new SimpleMeterRegistry();
+            VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(20, meterRegistry);
+            RecordedEvent event = mock(RecordedEvent.class);
+            when(event.getDuration()).thenReturn(Duration.ofMillis(35));
+
+            // When
+            monitor.onPinned(event);
+
+            // Then
+            assertThat(meterRegistry.get("jvm.threads.virtual.pinned").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("jvm.threads.virtual.pinned.duration").timer().totalTime(TimeUnit.MILLISECONDS))
+                    .isEqualTo(35);
+        }
+    }
+}
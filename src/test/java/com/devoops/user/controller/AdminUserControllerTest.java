@@ -0,0 +1,285 @@
+package com.devoops.user.controller;
+
+import com.devoops.user.config.AsyncTimeoutInterceptor;
+import com.devoops.user.config.RoleAuthorizationInterceptor;
+import com.devoops.user.config.UserContextResolver;
+import com.devoops.user.dto.request.UserListFilter;
+import com.devoops.user.dto.response.AdminUserResponse;
+import com.devoops.user.dto.response.UserPageResponse;
+import com.devoops.user.dto.response.UserSearchResponse;
+import com.devoops.user.dto.response.UserSearchResult;
+import com.devoops.user.entity.Role;
+import com.devoops.user.exception.GlobalExceptionHandler;
+import com.devoops.user.exception.InvalidRequestParameterException;
+import com.devoops.user.service.AdminUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminUserControllerTest {
+
+    @Mock
+    private AdminUserService adminUserService;
+
+    private MockMvc mockMvc;
+    private AdminUserResponse user;
+
+    @BeforeEach
+    void setUp() {
+        AdminUserController adminUserController = new AdminUserController(adminUserService, JsonMapper.builder().build());
+        ReflectionTestUtils.setField(adminUserController, "exportTimeoutMs", 600_000L);
+        mockMvc = MockMvcBuilders.standaloneSetup(adminUserController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new UserContextResolver())
+                .addInterceptors(new RoleAuthorizationInterceptor())
+                .build();
+
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        user = new AdminUserResponse(UUID.randomUUID(), "testuser", "test@example.com",
+                "Test", "User, Jr.", "Test City", Role.HOST, false, createdAt, createdAt);
+    }
+
+    @Nested
+    @DisplayName("GET /api/user/admin/users — listUsers")
+    class ListUsersTests {
+
+        @Test
+        @DisplayName("Should return 200 OK with a page of users and the next cursor")
+        void listUsers_WithFilters_ReturnsPage() throws Exception {
+            // Given
+            when(adminUserService.listUsers(new UserListFilter(Role.HOST, true), "abc", 20))
+                    .thenReturn(new UserPageResponse(List.of(user), "next"));
+
+            // When/Then
+            mockMvc.perform(get("/api/user/admin/users")
+                            .param("role", "HOST")
+                            .param("deleted", "true")
+                            .param("cursor", "abc")
+                            .param("limit", "20")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "ADMIN"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.users[0].username").value("testuser"))
+                    .andExpect(jsonPath("$.nextCursor").value("next"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 BAD REQUEST for an unknown role")
+        void listUsers_WithUnknownRole_Returns400() throws Exception {
+            // When/Then
+            mockMvc.perform(get("/api/user/admin/users")
+                            .param("role", "OWNER")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "ADMIN"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(adminUserService);
+        }
+
+        @Test
+        @DisplayName("Should return 403 FORBIDDEN for non-admin callers")
+        void listUsers_WithHostRole_Returns403() throws Exception {
+            // When/Then
+            mockMvc.perform(get("/api/user/admin/users")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "HOST"))
+                    .andExpect(status().isForbidden());
+
+            verifyNoInteractions(adminUserService);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/user/admin/users/search — searchUsers")
+    class SearchUsersTests {
+
+        @Test
+        @DisplayName("Should return 200 OK with ranked results")
+        void searchUsers_WithQuery_ReturnsResults() throws Exception {
+            // Given
+            UserSearchResult result = new UserSearchResult(user.id(), "testuser", "test@example.com",
+                    "Test", "User", Role.HOST, 0.75);
+            when(adminUserService.searchUsers("test", 1, 10))
+                    .thenReturn(new UserSearchResponse(List.of(result), 1, 10, false));
+
+            // When/Then
+            mockMvc.perform(get("/api/user/admin/users/search")
+                            .param("q", "test")
+                            .param("page", "1")
+                            .param("size", "10")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "ADMIN"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results[0].username").value("testuser"))
+                    .andExpect(jsonPath("$.results[0].score").value(0.75))
+                    .andExpect(jsonPath("$.results[0].password").doesNotExist())
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @Test
+        @DisplayName("Should return 400 BAD REQUEST when the query is too short")
+        void searchUsers_WithShortQuery_Returns400() throws Exception {
+            // Given
+            when(adminUserService.searchUsers("ab", 0, 20))
+                    .thenThrow(new InvalidRequestParameterException("Search query must be at least 3 characters long"));
+
+            // When/Then
+            mockMvc.perform(get("/api/user/admin/users/search")
+                            .param("q", "ab")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "ADMIN"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.title").value("Invalid Parameter"));
+        }
+
+        @Test
+        @DisplayName("Should return 403 FORBIDDEN for non-admin callers")
+        void searchUsers_WithGuestRole_Returns403() throws Exception {
+            // When/Then
+            mockMvc.perform(get("/api/user/admin/users/search")
+                            .param("q", "test")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "GUEST"))
+                    .andExpect(status().isForbidden());
+
+            verifyNoInteractions(adminUserService);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/user/admin/users/export — exportUsers")
+    class ExportUsersTests {
+
+        @Test
+        @DisplayName("Should stream one JSON object per line for NDJSON exports")
+        void exportUsers_AsNdjson_WritesOneLinePerUser() throws Exception {
+            // Given
+            streamUsers(user, user);
+
+            // When
+            MvcResult result = mockMvc.perform(get("/api/user/admin/users/export")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "ADMIN"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            String line = "{\"id\":\"" + user.id() + "\",\"username\":\"testuser\",\"email\":\"test@example.com\","
+                    + "\"firstName\":\"Test\",\"lastName\":\"User, Jr.\",\"residence\":\"Test City\",\"role\":\"HOST\","
+                    + "\"deleted\":false,\"createdAt\":\"2026-01-01T12:00:00\",\"updatedAt\":\"2026-01-01T12:00:00\"}\n";
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(AdminUserController.NDJSON))
+                    .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.ndjson\""))
+                    .andExpect(content().string(line + line));
+        }
+
+        @Test
+        @DisplayName("Should write a header and quote fields containing separators for CSV exports")
+        void exportUsers_AsCsv_WritesEscapedRows() throws Exception {
+            // Given
+            streamUsers(user);
+
+            // When
+            MvcResult result = mockMvc.perform(get("/api/user/admin/users/export")
+                            .param("format", "CSV")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "ADMIN"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                    .andExpect(content().string(
+                            "id,username,email,first_name,last_name,residence,role,deleted,created_at,updated_at\r\n"
+                                    + user.id() + ",testuser,test@example.com,Test,\"User, Jr.\",Test City,HOST,false,"
+                                    + "2026-01-01T12:00,2026-01-01T12:00\r\n"));
+        }
+
+        @Test
+        @DisplayName("Should neutralize cells a spreadsheet would evaluate as formulas in CSV exports")
+        void exportUsers_AsCsvWithFormulaLikeValues_PrefixesCells() throws Exception {
+            // Given
+            streamUsers(new AdminUserResponse(user.id(), "-2+3", "@evil@example.com", "=HYPERLINK(\"x\")",
+                    "+1", "Test City", Role.GUEST, false, user.createdAt(), user.updatedAt()));
+
+            // When
+            MvcResult result = mockMvc.perform(get("/api/user/admin/users/export")
+                            .param("format", "csv")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "ADMIN"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(
+                            "id,username,email,first_name,last_name,residence,role,deleted,created_at,updated_at\r\n"
+                                    + user.id() + ",'-2+3,'@evil@example.com,\"'=HYPERLINK(\"\"x\"\")\",'+1,Test City,"
+                                    + "GUEST,false,2026-01-01T12:00,2026-01-01T12:00\r\n"));
+        }
+
+        @Test
+        @DisplayName("Should give only the export response the long export timeout")
+        void exportUsers_SetsExportTimeout() throws Exception {
+            // Given
+            streamUsers(user);
+
+            // When/Then
+            mockMvc.perform(get("/api/user/admin/users/export")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "ADMIN"))
+                    .andExpect(request().asyncStarted())
+                    .andExpect(request().attribute(AsyncTimeoutInterceptor.TIMEOUT_ATTRIBUTE, 600_000L));
+        }
+
+        @Test
+        @DisplayName("Should return 400 BAD REQUEST for an unsupported format")
+        void exportUsers_WithUnsupportedFormat_Returns400() throws Exception {
+            // When/Then
+            mockMvc.perform(get("/api/user/admin/users/export")
+                            .param("format", "xml")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "ADMIN"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.detail").value("Unsupported export format: xml"));
+
+            verifyNoInteractions(adminUserService);
+        }
+
+        private void streamUsers(AdminUserResponse... users) {
+            doAnswer(invocation -> {
+                Consumer<AdminUserResponse> consumer = invocation.getArgument(1);
+                List.of(users).forEach(consumer);
+                return null;
+            }).when(adminUserService).exportUsers(eq(new UserListFilter(null, null)), any());
+        }
+    }
+}
@@ -3,12 +3,15 @@ package com.devoops.user.controller;
 import com.devoops.user.dto.request.LoginRequest;
 import com.devoops.user.dto.request.RegisterRequest;
 import com.devoops.user.dto.response.AuthenticationResponse;
+import com.devoops.user.dto.response.AvailabilityResponse;
 import com.devoops.user.dto.response.UserResponse;
 import com.devoops.user.entity.Role;
 import com.devoops.user.exception.GlobalExceptionHandler;
 import com.devoops.user.exception.InvalidCredentialsException;
+import com.devoops.user.exception.ServiceOverloadedException;
 import com.devoops.user.exception.UserAlreadyExistsException;
 import com.devoops.user.service.AuthenticationService;
+import com.devoops.user.service.AvailabilityService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +29,7 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -35,6 +39,9 @@ class AuthenticationControllerTest {
     @Mock
     private AuthenticationService authenticationService;
 
+    @Mock
+    private AvailabilityService availabilityService;
+
     @InjectMocks
     private AuthenticationController authenticationController;
 
@@ -210,6 +217,24 @@ class AuthenticationControllerTest {
                     .andExpect(jsonPath("$.detail").value("Invalid username/email or password"));
         }
 
+        @Test
+        @DisplayName("Should return 503 with Retry-After when password hashing is saturated")
+        void login_HashingPoolSaturated_Returns503() throws Exception {
+            // Given
+            LoginRequest request = new LoginRequest("testuser", "password123");
+
+            when(authenticationService.login(any(LoginRequest.class)))
+                    .thenThrow(new ServiceOverloadedException("Too many concurrent authentication requests", 1));
+
+            // When/Then
+            mockMvc.perform(post("/api/user/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.title").value("Service Overloaded"));
+        }
+
         @Test
         @DisplayName("Should return 400 BAD REQUEST when request body is invalid")
         void login_InvalidRequest_Returns400() throws Exception {
@@ -228,4 +253,38 @@ class AuthenticationControllerTest {
                     .andExpect(status().isBadRequest());
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/user/auth/availability")
+    class AvailabilityEndpointTests {
+
+        @Test
+        @DisplayName("Should return availability of the requested username and email")
+        void availability_WithUsernameAndEmail_Returns200() throws Exception {
+            // Given
+            when(availabilityService.check("newuser", "taken@example.com"))
+                    .thenReturn(new AvailabilityResponse(true, false));
+
+            // When/Then
+            mockMvc.perform(get("/api/user/auth/availability")
+                            .param("username", "newuser")
+                            .param("email", "taken@example.com"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.usernameAvailable").value(true))
+                    .andExpect(jsonPath("$.emailAvailable").value(false));
+        }
+
+        @Test
+        @DisplayName("Should omit fields that were not requested")
+        void availability_WithUsernameOnly_OmitsEmail() throws Exception {
+            // Given
+            when(availabilityService.check("newuser", null)).thenReturn(new AvailabilityResponse(true, null));
+
+            // When/Then
+            mockMvc.perform(get("/api/user/auth/availability").param("username", "newuser"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.usernameAvailable").value(true))
+                    .andExpect(jsonPath("$.emailAvailable").doesNotExist());
+        }
+    }
 }
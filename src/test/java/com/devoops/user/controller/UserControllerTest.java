@@ -11,6 +11,7 @@ import com.devoops.user.exception.AccountDeletionException;
 import com.devoops.user.exception.GlobalExceptionHandler;
 import com.devoops.user.exception.InvalidCredentialsException;
 import com.devoops.user.exception.UserAlreadyExistsException;
+import com.devoops.user.service.ProfileSnapshot;
 import com.devoops.user.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +37,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ExtendWith(MockitoExtension.class)
 class UserControllerTest {
 
+    private static final String ETAG = "\"3f2a9c\"";
+
     @Mock
     private UserService userService;
 
@@ -85,7 +88,7 @@ class UserControllerTest {
         @DisplayName("Should return 200 OK with UserResponse when auth headers are valid")
         void getProfile_WithValidHeaders_ReturnsUserResponse() throws Exception {
             // Given
-            when(userService.getProfile(eq(userId))).thenReturn(userResponse);
+            when(userService.getProfileSnapshot(eq(userId))).thenReturn(snapshotOf(userResponse));
 
             // When/Then
             mockMvc.perform(get("/api/user/me")
@@ -93,11 +96,43 @@ class UserControllerTest {
                             .header("X-User-Role", "GUEST"))
                     .andExpect(status().isOk())
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(header().string("ETag", ETAG))
                     .andExpect(jsonPath("$.username").value("testuser"))
                     .andExpect(jsonPath("$.email").value("test@example.com"))
                     .andExpect(jsonPath("$.role").value("GUEST"));
         }
 
+        @Test
+        @DisplayName("Should return 304 NOT MODIFIED without a body when the ETag matches")
+        void getProfile_WithMatchingIfNoneMatch_Returns304() throws Exception {
+            // Given
+            when(userService.getProfileSnapshot(eq(userId))).thenReturn(snapshotOf(userResponse));
+
+            // When/Then
+            mockMvc.perform(get("/api/user/me")
+                            .header("X-User-Id", userId.toString())
+                            .header("X-User-Role", "GUEST")
+                            .header("If-None-Match", ETAG))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", ETAG))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return 200 OK with the new body when the ETag is outdated")
+        void getProfile_WithOutdatedIfNoneMatch_Returns200() throws Exception {
+            // Given
+            when(userService.getProfileSnapshot(eq(userId))).thenReturn(snapshotOf(userResponse));
+
+            // When/Then
+            mockMvc.perform(get("/api/user/me")
+                            .header("X-User-Id", userId.toString())
+                            .header("X-User-Role", "GUEST")
+                            .header("If-None-Match", "\"outdated\""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.username").value("testuser"));
+        }
+
         @Test
         @DisplayName("Should return 401 when auth headers are missing")
         void getProfile_WithoutHeaders_Returns401() throws Exception {
@@ -371,4 +406,8 @@ class UserControllerTest {
             verify(userService).deleteAccount(userId);
         }
     }
+
+    private ProfileSnapshot snapshotOf(UserResponse response) throws Exception {
+        return new ProfileSnapshot(ETAG, objectMapper.writeValueAsBytes(response));
+    }
 }
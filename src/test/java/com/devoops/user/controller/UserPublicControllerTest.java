@@ -2,51 +2,66 @@ package com.devoops.user.controller;
 
 import com.devoops.user.config.RoleAuthorizationInterceptor;
 import com.devoops.user.config.UserContextResolver;
+import com.devoops.user.dto.request.UserBatchRequest;
+import com.devoops.user.dto.response.UserBatchEntry;
 import com.devoops.user.dto.response.UserResponse;
 import com.devoops.user.entity.Role;
 import com.devoops.user.exception.GlobalExceptionHandler;
 import com.devoops.user.exception.UserNotFoundException;
+import com.devoops.user.service.ProfileSnapshot;
 import com.devoops.user.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ExtendWith(MockitoExtension.class)
 class UserPublicControllerTest {
 
+    private static final String ETAG = "\"3f2a9c\"";
+
     @Mock
     private UserService userService;
 
-    @InjectMocks
-    private UserPublicController userPublicController;
-
     private MockMvc mockMvc;
+    private ObjectMapper objectMapper;
 
     private UUID userId;
     private UserResponse userResponse;
 
     @BeforeEach
     void setUp() {
+        UserPublicController userPublicController = new UserPublicController(userService, JsonMapper.builder().build());
         mockMvc = MockMvcBuilders.standaloneSetup(userPublicController)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .setCustomArgumentResolvers(new UserContextResolver())
                 .addInterceptors(new RoleAuthorizationInterceptor())
                 .build();
+        objectMapper = new ObjectMapper();
 
         userId = UUID.randomUUID();
 
@@ -69,7 +84,7 @@ class UserPublicControllerTest {
         @DisplayName("Should return 200 OK with UserResponse when caller is a HOST")
         void getById_WithHostRole_ReturnsUserResponse() throws Exception {
             // Given
-            when(userService.getProfile(eq(userId))).thenReturn(userResponse);
+            when(userService.getProfileSnapshot(eq(userId))).thenReturn(snapshotOf(userResponse));
 
             // When/Then
             mockMvc.perform(get("/api/user/{id}", userId)
@@ -77,6 +92,8 @@ class UserPublicControllerTest {
                             .header("X-User-Role", "HOST"))
                     .andExpect(status().isOk())
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(header().string("ETag", ETAG))
+                    .andExpect(header().string("Cache-Control", "no-cache"))
                     .andExpect(jsonPath("$.id").value(userId.toString()))
                     .andExpect(jsonPath("$.username").value("testuser"))
                     .andExpect(jsonPath("$.email").value("test@example.com"))
@@ -87,7 +104,7 @@ class UserPublicControllerTest {
         @DisplayName("Should return 200 OK with UserResponse when caller is a GUEST")
         void getById_WithGuestRole_ReturnsUserResponse() throws Exception {
             // Given
-            when(userService.getProfile(eq(userId))).thenReturn(userResponse);
+            when(userService.getProfileSnapshot(eq(userId))).thenReturn(snapshotOf(userResponse));
 
             // When/Then
             mockMvc.perform(get("/api/user/{id}", userId)
@@ -98,6 +115,21 @@ class UserPublicControllerTest {
                     .andExpect(jsonPath("$.username").value("testuser"));
         }
 
+        @Test
+        @DisplayName("Should return 304 NOT MODIFIED when the ETag matches")
+        void getById_WithMatchingIfNoneMatch_Returns304() throws Exception {
+            // Given
+            when(userService.getProfileSnapshot(eq(userId))).thenReturn(snapshotOf(userResponse));
+
+            // When/Then
+            mockMvc.perform(get("/api/user/{id}", userId)
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "HOST")
+                            .header("If-None-Match", ETAG))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+
         @Test
         @DisplayName("Should return 401 when auth headers are missing")
         void getById_WithoutHeaders_Returns401() throws Exception {
@@ -120,7 +152,7 @@ class UserPublicControllerTest {
         @DisplayName("Should return 404 NOT FOUND when user does not exist")
         void getById_UserNotFound_Returns404() throws Exception {
             // Given
-            when(userService.getProfile(eq(userId)))
+            when(userService.getProfileSnapshot(eq(userId)))
                     .thenThrow(new UserNotFoundException("User does not exist"));
 
             // When/Then
@@ -131,5 +163,108 @@ class UserPublicControllerTest {
                     .andExpect(jsonPath("$.title").value("User Not Found"))
                     .andExpect(jsonPath("$.detail").value("User does not exist"));
         }
+
+        @Test
+        @DisplayName("Should return 400 BAD REQUEST when the ID is not a UUID")
+        void getById_WithMalformedId_Returns400() throws Exception {
+            // When/Then
+            mockMvc.perform(get("/api/user/{id}", "not-a-uuid")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "HOST"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.title").value("Invalid Parameter"));
+
+            verifyNoInteractions(userService);
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/user/batch — getBatch")
+    class GetBatchTests {
+
+        @Test
+        @DisplayName("Should stream an entry per requested ID with per-entry 404s")
+        void getBatch_WithFoundAndMissingIds_StreamsEntries() throws Exception {
+            // Given
+            UUID missingId = UUID.randomUUID();
+            List<String> ids = List.of(userId.toString(), missingId.toString(), "not-a-uuid");
+            doAnswer(invocation -> {
+                Consumer<UserBatchEntry> consumer = invocation.getArgument(1);
+                consumer.accept(UserBatchEntry.found(userResponse));
+                consumer.accept(UserBatchEntry.notFound(missingId.toString()));
+                consumer.accept(UserBatchEntry.notFound("not-a-uuid"));
+                return null;
+            }).when(userService).streamProfiles(eq(ids), any());
+
+            // When
+            MvcResult result = mockMvc.perform(post("/api/user/batch")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "HOST")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new UserBatchRequest(ids))))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.length()").value(3))
+                    .andExpect(jsonPath("$[0].status").value(200))
+                    .andExpect(jsonPath("$[0].user.username").value("testuser"))
+                    .andExpect(jsonPath("$[1].id").value(missingId.toString()))
+                    .andExpect(jsonPath("$[1].status").value(404))
+                    .andExpect(jsonPath("$[1].user").doesNotExist())
+                    .andExpect(jsonPath("$[2].id").value("not-a-uuid"))
+                    .andExpect(jsonPath("$[2].status").value(404));
+        }
+
+        @Test
+        @DisplayName("Should return 400 BAD REQUEST when too many IDs are requested")
+        void getBatch_OverSizeLimit_Returns400() throws Exception {
+            // Given
+            List<String> ids = Stream.generate(() -> UUID.randomUUID().toString())
+                    .limit(UserBatchRequest.MAX_IDS + 1)
+                    .toList();
+
+            // When/Then
+            mockMvc.perform(post("/api/user/batch")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "HOST")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new UserBatchRequest(ids))))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.title").value("Validation Error"));
+
+            verifyNoInteractions(userService);
+        }
+
+        @Test
+        @DisplayName("Should return 400 BAD REQUEST when no IDs are given")
+        void getBatch_WithEmptyIds_Returns400() throws Exception {
+            // When/Then
+            mockMvc.perform(post("/api/user/batch")
+                            .header("X-User-Id", UUID.randomUUID().toString())
+                            .header("X-User-Role", "GUEST")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\":[]}"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(userService);
+        }
+
+        @Test
+        @DisplayName("Should return 401 when auth headers are missing")
+        void getBatch_WithoutHeaders_Returns401() throws Exception {
+            // When/Then
+            mockMvc.perform(post("/api/user/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new UserBatchRequest(List.of(userId.toString())))))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    private ProfileSnapshot snapshotOf(UserResponse response) throws Exception {
+        return new ProfileSnapshot(ETAG, objectMapper.writeValueAsBytes(response));
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,10 @@
 package com.devoops.user.grpc;
 
 import com.devoops.user.grpc.proto.accommodation.*;
+import com.devoops.user.metrics.OperationTimer;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,27 +15,39 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class AccommodationGrpcClientTest {
 
+    private static final long DEADLINE_MS = 1500L;
+
     @Mock
     private AccommodationInternalServiceGrpc.AccommodationInternalServiceBlockingStub accommodationStub;
 
     private AccommodationGrpcClient accommodationGrpcClient;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() throws Exception {
-        accommodationGrpcClient = new AccommodationGrpcClient();
+        meterRegistry = new SimpleMeterRegistry();
+        accommodationGrpcClient = new AccommodationGrpcClient(new OperationTimer(meterRegistry));
         // Use reflection to inject the mock stub
         Field stubField = AccommodationGrpcClient.class.getDeclaredField("accommodationStub");
         stubField.setAccessible(true);
         stubField.set(accommodationGrpcClient, accommodationStub);
+        Field deadlineField = AccommodationGrpcClient.class.getDeclaredField("deadlineMs");
+        deadlineField.setAccessible(true);
+        deadlineField.set(accommodationGrpcClient, DEADLINE_MS);
+        lenient().when(accommodationStub.withDeadlineAfter(anyLong(), any(TimeUnit.class))).thenReturn(accommodationStub);
     }
 
     @Nested
@@ -119,5 +133,20 @@ class AccommodationGrpcClientTest {
                     .isInstanceOf(RuntimeException.class)
                     .hasMessageContaining("Failed to delete host accommodations");
         }
+
+        @Test
+        @DisplayName("Should call the stub with the configured deadline and fail when it expires")
+        void deleteAccommodationsByHost_DeadlineExceeded_ThrowsRuntimeException() {
+            // Given
+            UUID hostId = UUID.randomUUID();
+            when(accommodationStub.deleteAccommodationsByHost(any(DeleteByHostRequest.class)))
+                    .thenThrow(new StatusRuntimeException(Status.DEADLINE_EXCEEDED));
+
+            // When/Then
+            assertThatThrownBy(() -> accommodationGrpcClient.deleteAccommodationsByHost(hostId))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("Failed to delete host accommodations");
+            verify(accommodationStub).withDeadlineAfter(DEADLINE_MS, TimeUnit.MILLISECONDS);
+        }
     }
 }
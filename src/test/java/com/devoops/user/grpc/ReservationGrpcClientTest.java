@@ -1,8 +1,10 @@
 package com.devoops.user.grpc;
 
 import com.devoops.user.grpc.proto.reservation.*;
+import com.devoops.user.metrics.OperationTimer;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,27 +15,39 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ReservationGrpcClientTest {
 
+    private static final long DEADLINE_MS = 1500L;
+
     @Mock
     private ReservationInternalServiceGrpc.ReservationInternalServiceBlockingStub reservationStub;
 
     private ReservationGrpcClient reservationGrpcClient;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() throws Exception {
-        reservationGrpcClient = new ReservationGrpcClient();
+        meterRegistry = new SimpleMeterRegistry();
+        reservationGrpcClient = new ReservationGrpcClient(new OperationTimer(meterRegistry));
         // Use reflection to inject the mock stub
         Field stubField = ReservationGrpcClient.class.getDeclaredField("reservationStub");
         stubField.setAccessible(true);
         stubField.set(reservationGrpcClient, reservationStub);
+        Field deadlineField = ReservationGrpcClient.class.getDeclaredField("deadlineMs");
+        deadlineField.setAccessible(true);
+        deadlineField.set(reservationGrpcClient, DEADLINE_MS);
+        lenient().when(reservationStub.withDeadlineAfter(anyLong(), any(TimeUnit.class))).thenReturn(reservationStub);
     }
 
     @Nested
@@ -97,6 +111,25 @@ class ReservationGrpcClientTest {
                     .isInstanceOf(RuntimeException.class)
                     .hasMessageContaining("Failed to check guest deletion eligibility");
         }
+
+        @Test
+        @DisplayName("Should call the stub with the configured deadline and fail when it expires")
+        void checkGuestCanBeDeleted_DeadlineExceeded_ThrowsRuntimeException() {
+            // Given
+            UUID guestId = UUID.randomUUID();
+            when(reservationStub.checkGuestCanBeDeleted(any(CheckGuestDeletionRequest.class)))
+                    .thenThrow(new StatusRuntimeException(Status.DEADLINE_EXCEEDED));
+
+            // When/Then
+            assertThatThrownBy(() -> reservationGrpcClient.checkGuestCanBeDeleted(guestId))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("Failed to check guest deletion eligibility");
+            verify(reservationStub).withDeadlineAfter(DEADLINE_MS, TimeUnit.MILLISECONDS);
+            assertThat(meterRegistry.get(OperationTimer.METRIC_NAME)
+                    .tags("operation", "grpc.reservation.check_guest", "outcome", "deadline_exceeded")
+                    .timer()
+                    .count()).isEqualTo(1);
+        }
     }
 
     @Nested
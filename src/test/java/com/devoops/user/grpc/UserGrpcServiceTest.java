@@ -1,37 +1,54 @@
 package com.devoops.user.grpc;
 
+import com.devoops.user.config.ReadYourWritesWindow;
 import com.devoops.user.entity.Role;
 import com.devoops.user.entity.User;
+import com.devoops.user.grpc.proto.GetUserSummariesRequest;
+import com.devoops.user.grpc.proto.GetUserSummariesResponse;
 import com.devoops.user.grpc.proto.GetUserSummaryRequest;
 import com.devoops.user.grpc.proto.GetUserSummaryResponse;
 import com.devoops.user.repository.UserRepository;
+import com.devoops.user.repository.projection.UserSummaryView;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class UserGrpcServiceTest {
 
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private StreamObserver<GetUserSummaryResponse> responseObserver;
 
-    @InjectMocks
+    @Mock
+    private StreamObserver<GetUserSummariesResponse> batchResponseObserver;
+
     private UserGrpcService userGrpcService;
 
     private User testUser;
@@ -41,6 +58,8 @@ class UserGrpcServiceTest {
     void setUp() {
         testUserId = UUID.randomUUID();
         testUser = buildTestUser();
+        UserSummaryCache userSummaryCache = new UserSummaryCache(100, 60_000, 60_000, new SimpleMeterRegistry());
+        userGrpcService = new UserGrpcService(userRepository, userSummaryCache, new ReadYourWritesWindow(5_000));
     }
 
     private User buildTestUser() {
@@ -56,6 +75,17 @@ class UserGrpcServiceTest {
                 .build();
     }
 
+    private static UserSummaryView summaryOf(User user) {
+        return PROJECTIONS.createProjection(UserSummaryView.class, Map.of(
+                "id", user.getId(),
+                "email", user.getEmail(),
+                "firstName", user.getFirstName(),
+                "lastName", user.getLastName(),
+                "role", user.getRole().name(),
+                "deleted", user.isDeleted()
+        ));
+    }
+
     @Nested
     @DisplayName("getUserSummary Tests")
     class GetUserSummaryTests {
@@ -67,7 +97,7 @@ class UserGrpcServiceTest {
             GetUserSummaryRequest request = GetUserSummaryRequest.newBuilder()
                     .setUserId(testUserId.toString())
                     .build();
-            when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+            when(userRepository.findSummaryById(testUserId)).thenReturn(Optional.of(summaryOf(testUser)));
 
             // When
             userGrpcService.getUserSummary(request, responseObserver);
@@ -96,8 +126,7 @@ class UserGrpcServiceTest {
             GetUserSummaryRequest request = GetUserSummaryRequest.newBuilder()
                     .setUserId(unknownId.toString())
                     .build();
-            when(userRepository.findById(unknownId)).thenReturn(Optional.empty());
-            when(userRepository.findByIdIncludingDeleted(unknownId)).thenReturn(Optional.empty());
+            when(userRepository.findSummaryById(unknownId)).thenReturn(Optional.empty());
 
             // When
             userGrpcService.getUserSummary(request, responseObserver);
@@ -122,8 +151,7 @@ class UserGrpcServiceTest {
                     .setUserId(testUserId.toString())
                     .build();
             testUser.setDeleted(true);
-            when(userRepository.findById(testUserId)).thenReturn(Optional.empty());
-            when(userRepository.findByIdIncludingDeleted(testUserId)).thenReturn(Optional.of(testUser));
+            when(userRepository.findSummaryById(testUserId)).thenReturn(Optional.of(summaryOf(testUser)));
 
             // When
             userGrpcService.getUserSummary(request, responseObserver);
@@ -165,7 +193,7 @@ class UserGrpcServiceTest {
             assertThat(response.getFound()).isFalse();
 
             // Repository should not be called for invalid UUID
-            verify(userRepository, never()).findById(any());
+            verify(userRepository, never()).findSummaryById(any());
         }
 
         @Test
@@ -187,7 +215,7 @@ class UserGrpcServiceTest {
             GetUserSummaryResponse response = captor.getValue();
             assertThat(response.getFound()).isFalse();
 
-            verify(userRepository, never()).findById(any());
+            verify(userRepository, never()).findSummaryById(any());
         }
 
         @Test
@@ -198,7 +226,7 @@ class UserGrpcServiceTest {
             GetUserSummaryRequest request = GetUserSummaryRequest.newBuilder()
                     .setUserId(testUserId.toString())
                     .build();
-            when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+            when(userRepository.findSummaryById(testUserId)).thenReturn(Optional.of(summaryOf(testUser)));
 
             // When
             userGrpcService.getUserSummary(request, responseObserver);
@@ -230,7 +258,172 @@ class UserGrpcServiceTest {
             GetUserSummaryResponse response = captor.getValue();
             assertThat(response.getFound()).isFalse();
 
-            verify(userRepository, never()).findById(any());
+            verify(userRepository, never()).findSummaryById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Summary Cache Tests")
+    class SummaryCacheTests {
+
+        @Test
+        @DisplayName("Should serve repeated lookups of the same user from the cache")
+        void getUserSummary_CalledTwice_QueriesDatabaseOnce() {
+            // Given
+            GetUserSummaryRequest request = GetUserSummaryRequest.newBuilder()
+                    .setUserId(testUserId.toString())
+                    .build();
+            when(userRepository.findSummaryById(testUserId)).thenReturn(Optional.of(summaryOf(testUser)));
+
+            // When
+            userGrpcService.getUserSummary(request, responseObserver);
+            userGrpcService.getUserSummary(request, responseObserver);
+
+            // Then
+            ArgumentCaptor<GetUserSummaryResponse> captor = ArgumentCaptor.forClass(GetUserSummaryResponse.class);
+            verify(responseObserver, times(2)).onNext(captor.capture());
+            assertThat(captor.getAllValues()).allMatch(GetUserSummaryResponse::getFound);
+            verify(userRepository, times(1)).findSummaryById(testUserId);
+        }
+
+        @Test
+        @DisplayName("Should cache not found responses for unknown users")
+        void getUserSummary_WithUnknownUserCalledTwice_QueriesDatabaseOnce() {
+            // Given
+            UUID unknownId = UUID.randomUUID();
+            GetUserSummaryRequest request = GetUserSummaryRequest.newBuilder()
+                    .setUserId(unknownId.toString())
+                    .build();
+            when(userRepository.findSummaryById(unknownId)).thenReturn(Optional.empty());
+
+            // When
+            userGrpcService.getUserSummary(request, responseObserver);
+            userGrpcService.getUserSummary(request, responseObserver);
+
+            // Then
+            ArgumentCaptor<GetUserSummaryResponse> captor = ArgumentCaptor.forClass(GetUserSummaryResponse.class);
+            verify(responseObserver, times(2)).onNext(captor.capture());
+            assertThat(captor.getAllValues()).noneMatch(GetUserSummaryResponse::getFound);
+            verify(userRepository, times(1)).findSummaryById(unknownId);
+        }
+
+        @Test
+        @DisplayName("Should only query users missing from the cache in a batch")
+        void getUserSummaries_WithPartiallyCachedIds_QueriesOnlyMisses() {
+            // Given
+            when(userRepository.findSummaryById(testUserId)).thenReturn(Optional.of(summaryOf(testUser)));
+            userGrpcService.getUserSummary(
+                    GetUserSummaryRequest.newBuilder().setUserId(testUserId.toString()).build(), responseObserver);
+            UUID unknownId = UUID.randomUUID();
+            when(userRepository.findSummariesByIdIn(Set.of(unknownId))).thenReturn(List.of());
+            GetUserSummariesRequest request = GetUserSummariesRequest.newBuilder()
+                    .addUserIds(testUserId.toString())
+                    .addUserIds(unknownId.toString())
+                    .build();
+
+            // When
+            userGrpcService.getUserSummaries(request, batchResponseObserver);
+
+            // Then
+            ArgumentCaptor<GetUserSummariesResponse> captor = ArgumentCaptor.forClass(GetUserSummariesResponse.class);
+            verify(batchResponseObserver).onNext(captor.capture());
+            List<GetUserSummaryResponse> summaries = captor.getValue().getSummariesList();
+            assertThat(summaries.get(0).getUserId()).isEqualTo(testUserId.toString());
+            assertThat(summaries.get(1).getFound()).isFalse();
+            verify(userRepository).findSummariesByIdIn(Set.of(unknownId));
+        }
+    }
+
+    @Nested
+    @DisplayName("getUserSummaries Tests")
+    class GetUserSummariesTests {
+
+        @Test
+        @DisplayName("Should return summaries in request order with a single query")
+        void getUserSummaries_WithMixedIds_ReturnsSummariesInRequestOrder() {
+            // Given
+            UUID deletedUserId = UUID.randomUUID();
+            User deletedUser = User.builder()
+                    .id(deletedUserId)
+                    .username("deleteduser")
+                    .email("deleted@example.com")
+                    .firstName("Deleted")
+                    .lastName("User")
+                    .role(Role.HOST)
+                    .isDeleted(true)
+                    .build();
+            UUID unknownId = UUID.randomUUID();
+            GetUserSummariesRequest request = GetUserSummariesRequest.newBuilder()
+                    .addUserIds(deletedUserId.toString())
+                    .addUserIds("invalid-uuid")
+                    .addUserIds(unknownId.toString())
+                    .addUserIds(testUserId.toString())
+                    .addUserIds(deletedUserId.toString())
+                    .build();
+            when(userRepository.findSummariesByIdIn(Set.of(deletedUserId, unknownId, testUserId)))
+                    .thenReturn(List.of(summaryOf(testUser), summaryOf(deletedUser)));
+
+            // When
+            userGrpcService.getUserSummaries(request, batchResponseObserver);
+
+            // Then
+            ArgumentCaptor<GetUserSummariesResponse> captor = ArgumentCaptor.forClass(GetUserSummariesResponse.class);
+            verify(batchResponseObserver).onNext(captor.capture());
+            verify(batchResponseObserver).onCompleted();
+            verify(userRepository, times(1)).findSummariesByIdIn(anyCollection());
+            verify(userRepository, never()).findSummaryById(any());
+
+            List<GetUserSummaryResponse> summaries = captor.getValue().getSummariesList();
+            assertThat(summaries).hasSize(5);
+            assertThat(summaries.get(0).getUserId()).isEqualTo(deletedUserId.toString());
+            assertThat(summaries.get(0).getIsDeleted()).isTrue();
+            assertThat(summaries.get(1).getFound()).isFalse();
+            assertThat(summaries.get(2).getFound()).isFalse();
+            assertThat(summaries.get(3).getUserId()).isEqualTo(testUserId.toString());
+            assertThat(summaries.get(3).getIsDeleted()).isFalse();
+            assertThat(summaries.get(4).getUserId()).isEqualTo(deletedUserId.toString());
+        }
+
+        @Test
+        @DisplayName("Should not query the database when no ID is valid")
+        void getUserSummaries_WithOnlyInvalidIds_ReturnsNotFoundWithoutQuery() {
+            // Given
+            GetUserSummariesRequest request = GetUserSummariesRequest.newBuilder()
+                    .addUserIds("invalid-uuid")
+                    .addUserIds("")
+                    .build();
+
+            // When
+            userGrpcService.getUserSummaries(request, batchResponseObserver);
+
+            // Then
+            ArgumentCaptor<GetUserSummariesResponse> captor = ArgumentCaptor.forClass(GetUserSummariesResponse.class);
+            verify(batchResponseObserver).onNext(captor.capture());
+            assertThat(captor.getValue().getSummariesList())
+                    .hasSize(2)
+                    .noneMatch(GetUserSummaryResponse::getFound);
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject batches larger than the hard cap")
+        void getUserSummaries_WithTooManyIds_ReturnsInvalidArgument() {
+            // Given
+            GetUserSummariesRequest request = GetUserSummariesRequest.newBuilder()
+                    .addAllUserIds(Collections.nCopies(UserGrpcService.MAX_BATCH_SIZE + 1, testUserId.toString()))
+                    .build();
+
+            // When
+            userGrpcService.getUserSummaries(request, batchResponseObserver);
+
+            // Then
+            ArgumentCaptor<Throwable> captor = ArgumentCaptor.forClass(Throwable.class);
+            verify(batchResponseObserver).onError(captor.capture());
+            verify(batchResponseObserver, never()).onNext(any());
+            assertThat(captor.getValue()).isInstanceOf(StatusRuntimeException.class);
+            assertThat(((StatusRuntimeException) captor.getValue()).getStatus().getCode())
+                    .isEqualTo(Status.Code.INVALID_ARGUMENT);
+            verifyNoInteractions(userRepository);
         }
     }
 }
@@ -0,0 +1,93 @@
+package com.devoops.user.grpc;
+
+import com.devoops.user.grpc.proto.GetUserSummaryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSummaryCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private UserSummaryCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserSummaryCache(100, 60_000, 60_000, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should record hits and misses in the meter registry")
+    void get_WithRepeatedLookups_RecordsHitsAndMisses() {
+        // Given
+        UUID userId = UUID.randomUUID();
+
+        // When
+        cache.get(userId, this::load);
+        cache.get(userId, this::load);
+        cache.get(userId, this::load);
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "user.summary").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "user.summary").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reload the summary after invalidation")
+    void invalidate_WithCachedUser_ForcesReload() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        cache.get(userId, this::load);
+
+        // When
+        cache.invalidate(userId);
+        cache.get(userId, this::load);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should evict again after commit when invalidated inside a transaction")
+    void invalidate_InsideTransaction_EvictsAgainAfterCommit() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(userId);
+            // A concurrent reader caches the row before the transaction commits
+            cache.get(userId, this::load);
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.get(userId, this::load);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    private GetUserSummaryResponse load(UUID userId) {
+        loads.incrementAndGet();
+        return GetUserSummaryResponse.newBuilder()
+                .setFound(true)
+                .setUserId(userId.toString())
+                .build();
+    }
+}
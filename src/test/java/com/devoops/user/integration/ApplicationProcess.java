@@ -0,0 +1,115 @@
+package com.devoops.user.integration;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The packaged user service, a boot jar or the native executable, running as a separate process
+ * against test containers, on free HTTP and gRPC ports. Output goes to a log file.
+ */
+final class ApplicationProcess implements AutoCloseable {
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
+
+    private final Process process;
+    private final int httpPort;
+    private final int grpcPort;
+    private final long startedAt;
+
+    private ApplicationProcess(Process process, int httpPort, int grpcPort, long startedAt) {
+        this.process = process;
+        this.httpPort = httpPort;
+        this.grpcPort = grpcPort;
+        this.startedAt = startedAt;
+    }
+
+    static ApplicationProcess start(List<String> command, PostgreSQLContainer<?> postgres, RabbitMQContainer rabbitmq,
+                                    Path logFile) throws IOException {
+        int httpPort = freePort();
+        int grpcPort = freePort();
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile());
+        Map<String, String> env = builder.environment();
+        env.put("SERVER_PORT", String.valueOf(httpPort));
+        env.put("GRPC_PORT", String.valueOf(grpcPort));
+        env.put("POSTGRES_HOST", postgres.getHost());
+        env.put("POSGTES_PORT", String.valueOf(postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT)));
+        env.put("DB_USERNAME", postgres.getUsername());
+        env.put("DB_PASSWORD", postgres.getPassword());
+        env.put("RABBITMQ_HOST", rabbitmq.getHost());
+        env.put("RABBITMQ_PORT", String.valueOf(rabbitmq.getAmqpPort()));
+        env.put("RABBITMQ_USERNAME", rabbitmq.getAdminUsername());
+        env.put("RABBITMQ_PASSWORD", rabbitmq.getAdminPassword());
+
+        long startedAt = System.nanoTime();
+        return new ApplicationProcess(builder.start(), httpPort, grpcPort, startedAt);
+    }
+
+    /**
+     * Wait until {@code /actuator/health} answers 200.
+     *
+     * @return the time from launching the process until then
+     */
+    Duration awaitHealthy(Duration timeout) throws IOException, InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(uri("/actuator/health")).build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited during startup with code " + process.exitValue());
+            }
+            try {
+                if (HTTP_CLIENT.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return Duration.ofNanos(System.nanoTime() - startedAt);
+                }
+            } catch (ConnectException e) {
+                // Not listening yet
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException("Application was not healthy within " + timeout);
+    }
+
+    URI uri(String path) {
+        return URI.create("http://localhost:" + httpPort + path);
+    }
+
+    int httpPort() {
+        return httpPort;
+    }
+
+    int grpcPort() {
+        return grpcPort;
+    }
+
+    long pid() {
+        return process.pid();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.devoops.user.integration;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import com.devoops.user.grpc.proto.GetUserSummaryRequest;
+import com.devoops.user.grpc.proto.GetUserSummaryResponse;
+import com.devoops.user.grpc.proto.UserInternalServiceGrpc;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Calls the application's own gRPC server through an in-process {@code @GrpcClient} with the
+ * full Spring context, so the assertions see exactly the interceptors the application installs:
+ * one {@code grpc.server} timer sample and one server span per call, continuing the caller's trace.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class GrpcObservationIntegrationTest {
+
+    private static final String IN_PROCESS_NAME = "grpc-observation-test";
+    private static final String METHOD = "GetUserSummary";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("user_db_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static RabbitMQContainer rabbitmq = new RabbitMQContainer("rabbitmq:3-management-alpine")
+            .withExposedPorts(5672, 15672);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.rabbitmq.host", rabbitmq::getHost);
+        registry.add("spring.rabbitmq.port", rabbitmq::getAmqpPort);
+        registry.add("spring.rabbitmq.username", () -> "guest");
+        registry.add("spring.rabbitmq.password", () -> "guest");
+        registry.add("management.tracing.enabled", () -> "true");
+        registry.add("management.tracing.sampling.probability", () -> "1.0");
+        registry.add("grpc.server.port", () -> "-1");
+        registry.add("grpc.server.in-process-name", () -> IN_PROCESS_NAME);
+        registry.add("grpc.client.self.address", () -> "in-process:" + IN_PROCESS_NAME);
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class SpanCollector {
+
+        static final Queue<MutableSpan> SPANS = new ConcurrentLinkedQueue<>();
+
+        @Bean
+        SpanHandler collectingSpanHandler() {
+            return new SpanHandler() {
+                @Override
+                public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+                    SPANS.add(span);
+                    return true;
+                }
+            };
+        }
+    }
+
+    @GrpcClient("self")
+    private UserInternalServiceGrpc.UserInternalServiceBlockingStub stub;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Test
+    @DisplayName("Should time and trace each call once and continue the caller's trace")
+    void getUserSummary_RecordsOneTimerSampleAndOneSpanPerSide() {
+        // Given
+        SpanCollector.SPANS.clear();
+        long before = serverTimerCount();
+        GetUserSummaryRequest request = GetUserSummaryRequest.newBuilder()
+                .setUserId(UUID.randomUUID().toString())
+                .build();
+        Span parent = tracer.nextSpan().name("caller").start();
+
+        // When
+        GetUserSummaryResponse response;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(parent)) {
+            response = stub.getUserSummary(request);
+        } finally {
+            parent.end();
+        }
+
+        // Then
+        assertThat(response.getFound()).isFalse();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(serverTimerCount() - before).isEqualTo(1);
+            assertThat(spans(brave.Span.Kind.SERVER)).hasSize(1);
+            assertThat(spans(brave.Span.Kind.CLIENT)).hasSize(1);
+        });
+
+        MutableSpan client = spans(brave.Span.Kind.CLIENT).getFirst();
+        MutableSpan server = spans(brave.Span.Kind.SERVER).getFirst();
+        assertThat(client.traceId()).isEqualTo(parent.context().traceId());
+        assertThat(client.parentId()).isEqualTo(parent.context().spanId());
+        assertThat(server.traceId()).isEqualTo(parent.context().traceId());
+        assertThat(server.parentId()).isEqualTo(client.id());
+    }
+
+    private long serverTimerCount() {
+        Timer timer = meterRegistry.find("grpc.server").tag("rpc.method", METHOD).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private static List<MutableSpan> spans(brave.Span.Kind kind) {
+        return SpanCollector.SPANS.stream()
+                .filter(span -> span.kind() == kind)
+                .toList();
+    }
+}
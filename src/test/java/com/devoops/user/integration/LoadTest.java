@@ -0,0 +1,430 @@
+package com.devoops.user.integration;
+
+import com.devoops.user.dto.request.LoginRequest;
+import com.devoops.user.dto.request.RegisterRequest;
+import com.devoops.user.entity.Role;
+import com.devoops.user.grpc.proto.GetUserSummaryRequest;
+import com.devoops.user.grpc.proto.UserInternalServiceGrpc;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives a weighted mix of registrations, logins, profile reads and gRPC summary lookups against
+ * the application and real containers from a fixed number of concurrent clients, each sending
+ * its next request as soon as the previous one completes. Reports throughput and p50/p95/p99
+ * latency per operation, writes them as JSON and fails when they regress beyond the stored
+ * baseline by more than the tolerance.
+ * <p>
+ * Not part of the regular test run; execute with {@code ./gradlew loadTest}, optionally with
+ * {@code -PloadConcurrency=32 -PloadDuration=PT2M -PloadMix=register=5,login=20,profile=50,grpc-summary=25}.
+ * Record a new baseline with {@code -PloadUpdateBaseline} and commit it. The test fails when
+ * there is no baseline, or when it was taken with a different concurrency or mix, unless
+ * {@code -PloadUpdateBaseline} is set. The release job runs this test on every {@code v*} tag;
+ * the committed baseline has to come from that job's runner class with the default settings,
+ * which it records and uploads on its own for as long as none is committed.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 16);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT15S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT60S"));
+    private static final String MIX = System.getProperty("load.mix", "register=5,login=20,profile=50,grpc-summary=25");
+    private static final int SEEDED_USERS = Integer.getInteger("load.users", 500);
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("load.tolerance", "0.20"));
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+    private static final Path BASELINE = Path.of(System.getProperty("load.baseline", "src/test/load/baseline.json"));
+    private static final Path RESULTS = Path.of(System.getProperty("load.results", "build/results/load/results.json"));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("load.update-baseline");
+
+    private static final String PASSWORD = "password123";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int GRPC_PORT = freeGrpcPort();
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("user_db_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static RabbitMQContainer rabbitmq = new RabbitMQContainer("rabbitmq:3-management-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.rabbitmq.host", rabbitmq::getHost);
+        registry.add("spring.rabbitmq.port", rabbitmq::getAmqpPort);
+        registry.add("grpc.server.port", () -> GRPC_PORT);
+        registry.add("logging.level.com.devoops", () -> "INFO");
+        registry.add("logging.level.org.springframework.security", () -> "INFO");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final AtomicInteger registrations = new AtomicInteger();
+    private final List<SeededUser> users = new ArrayList<>();
+
+    private ManagedChannel channel;
+    private UserInternalServiceGrpc.UserInternalServiceBlockingStub summaryStub;
+    private Map<Operation, Integer> weights;
+    private int totalWeight;
+
+    enum Operation {
+        REGISTER("register"),
+        LOGIN("login"),
+        PROFILE("profile"),
+        GRPC_SUMMARY("grpc-summary");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        static Operation of(String key) {
+            return Arrays.stream(values())
+                    .filter(operation -> operation.key.equals(key))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown load operation: " + key));
+        }
+    }
+
+    record SeededUser(String id, String username) {}
+
+    record OperationResult(long requests, long errors, double throughput, double p50Ms, double p95Ms, double p99Ms) {}
+
+    record LoadReport(int concurrency, String mix, long durationSeconds, Map<String, OperationResult> operations) {}
+
+    @BeforeAll
+    void setUp() throws Exception {
+        weights = parseMix(MIX);
+        totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        channel = ManagedChannelBuilder.forAddress("localhost", GRPC_PORT).usePlaintext().build();
+        summaryStub = UserInternalServiceGrpc.newBlockingStub(channel);
+
+        // Users for logins, profile reads and summaries; registered through the API like any other
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<Future<SeededUser>> seeded = new ArrayList<>();
+            for (int i = 0; i < SEEDED_USERS; i++) {
+                seeded.add(executor.submit(this::registerUser));
+            }
+            for (Future<SeededUser> user : seeded) {
+                users.add(user.get());
+            }
+        }
+        log.info("Seeded {} users for the load test", users.size());
+    }
+
+    @AfterAll
+    void tearDown() throws InterruptedException {
+        if (channel != null) {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+        httpClient.close();
+    }
+
+    @Test
+    @DisplayName("Mixed load should stay within the stored baseline")
+    void mixedLoad_StaysWithinBaseline() throws Exception {
+        runLoad(WARMUP);
+        Map<Operation, Samples> samples = runLoad(DURATION);
+
+        LoadReport report = report(samples);
+        report.operations().forEach((operation, result) -> log.info(
+                "Load [{}]: requests={}, errors={}, throughput={}/s, p50={} ms, p95={} ms, p99={} ms",
+                operation, result.requests(), result.errors(), format(result.throughput()),
+                format(result.p50Ms()), format(result.p95Ms()), format(result.p99Ms())));
+        write(report, RESULTS);
+        log.info("Load test results written to {}", RESULTS.toAbsolutePath());
+
+        assertThat(report.operations()).allSatisfy((operation, result) ->
+                assertThat((double) result.errors() / Math.max(result.requests(), 1))
+                        .as("error rate of %s", operation)
+                        .isLessThanOrEqualTo(MAX_ERROR_RATE));
+
+        if (UPDATE_BASELINE) {
+            write(report, BASELINE);
+            log.info("Load test baseline updated at {}", BASELINE.toAbsolutePath());
+            return;
+        }
+        assertThat(regressions(report)).as("regressions beyond %s%% of the baseline %s", TOLERANCE * 100, BASELINE)
+                .isEmpty();
+    }
+
+    /**
+     * Run {@link #CONCURRENCY} closed-loop clients for the given time.
+     *
+     * @return the latencies and errors recorded per operation
+     */
+    private Map<Operation, Samples> runLoad(Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Map<Operation, Samples>>> clients = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                clients.add(executor.submit(() -> runClient(deadline)));
+            }
+        }
+
+        Map<Operation, Samples> merged = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, Samples>> client : clients) {
+            client.get().forEach((operation, samples) ->
+                    merged.computeIfAbsent(operation, key -> new Samples()).addAll(samples));
+        }
+        return merged;
+    }
+
+    private Map<Operation, Samples> runClient(long deadline) {
+        Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+        while (System.nanoTime() < deadline) {
+            Operation operation = nextOperation();
+            long started = System.nanoTime();
+            boolean succeeded;
+            try {
+                succeeded = execute(operation);
+            } catch (Exception e) {
+                succeeded = false;
+            }
+            samples.computeIfAbsent(operation, key -> new Samples()).record(System.nanoTime() - started, succeeded);
+        }
+        return samples;
+    }
+
+    private boolean execute(Operation operation) throws Exception {
+        return switch (operation) {
+            case REGISTER -> registerUser() != null;
+            case LOGIN -> post("/api/user/auth/login", new LoginRequest(randomUser().username(), PASSWORD))
+                    .statusCode() == 200;
+            case PROFILE -> getProfile(randomUser()).statusCode() == 200;
+            case GRPC_SUMMARY -> summaryStub.withDeadlineAfter(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+                    .getUserSummary(GetUserSummaryRequest.newBuilder().setUserId(randomUser().id()).build())
+                    .getFound();
+        };
+    }
+
+    private SeededUser registerUser() throws Exception {
+        String username = "load" + registrations.incrementAndGet() + "_" + UUID.randomUUID().toString().substring(0, 8);
+        HttpResponse<String> response = post("/api/user/auth/register", new RegisterRequest(
+                username, PASSWORD, username + "@example.com", "Load", "Test", "Belgrade", Role.GUEST));
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Registration failed with " + response.statusCode() + ": " + response.body());
+        }
+        return new SeededUser(OBJECT_MAPPER.readTree(response.body()).path("user").path("id").asText(), username);
+    }
+
+    private HttpResponse<String> post(String path, Object body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    // Identity headers as set by the gateway
+    private HttpResponse<Void> getProfile(SeededUser user) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/user/me"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("X-User-Id", user.id())
+                .header("X-User-Role", Role.GUEST.name())
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private Operation nextOperation() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> weight : weights.entrySet()) {
+            roll -= weight.getValue();
+            if (roll < 0) {
+                return weight.getKey();
+            }
+        }
+        throw new IllegalStateException("Weights do not add up to " + totalWeight);
+    }
+
+    private SeededUser randomUser() {
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static LoadReport report(Map<Operation, Samples> samples) {
+        Map<String, OperationResult> operations = new LinkedHashMap<>();
+        samples.forEach((operation, recorded) -> {
+            long[] sorted = recorded.sortedLatencies();
+            operations.put(operation.key, new OperationResult(
+                    sorted.length,
+                    recorded.errors,
+                    (sorted.length - recorded.errors) / (double) DURATION.toSeconds(),
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.95),
+                    percentileMillis(sorted, 0.99)));
+        });
+        return new LoadReport(CONCURRENCY, MIX, DURATION.toSeconds(), operations);
+    }
+
+    /**
+     * Compare with the stored baseline: throughput may drop and p95/p99 latency may grow by at
+     * most {@link #TOLERANCE}. p50 is reported but not compared, as it is the least stable. A
+     * missing or incomparable baseline is reported as a regression so it cannot pass silently.
+     */
+    private static List<String> regressions(LoadReport report) throws IOException {
+        if (!Files.exists(BASELINE)) {
+            return List.of("no baseline at %s; record one with -PloadUpdateBaseline and commit it"
+                    .formatted(BASELINE.toAbsolutePath()));
+        }
+        LoadReport baseline = OBJECT_MAPPER.readValue(BASELINE.toFile(), LoadReport.class);
+        if (baseline.concurrency() != report.concurrency() || !baseline.mix().equals(report.mix())) {
+            return List.of(("baseline was recorded with concurrency=%s and mix=%s, this run used concurrency=%s "
+                    + "and mix=%s; rerun with the baseline's settings or record a new one with -PloadUpdateBaseline")
+                    .formatted(baseline.concurrency(), baseline.mix(), report.concurrency(), report.mix()));
+        }
+
+        List<String> regressions = new ArrayList<>();
+        report.operations().forEach((operation, current) -> {
+            OperationResult expected = baseline.operations().get(operation);
+            if (expected == null) {
+                return;
+            }
+            if (current.throughput() < expected.throughput() * (1 - TOLERANCE)) {
+                regressions.add("%s throughput %s/s, baseline %s/s".formatted(
+                        operation, format(current.throughput()), format(expected.throughput())));
+            }
+            if (current.p95Ms() > expected.p95Ms() * (1 + TOLERANCE)) {
+                regressions.add("%s p95 %s ms, baseline %s ms".formatted(
+                        operation, format(current.p95Ms()), format(expected.p95Ms())));
+            }
+            if (current.p99Ms() > expected.p99Ms() * (1 + TOLERANCE)) {
+                regressions.add("%s p99 %s ms, baseline %s ms".formatted(
+                        operation, format(current.p99Ms()), format(expected.p99Ms())));
+            }
+        });
+        return regressions;
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            weights.put(Operation.of(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static void write(LoadReport report, Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static String format(double value) {
+        return "%.1f".formatted(value);
+    }
+
+    private static int freeGrpcPort() {
+        try {
+            return ApplicationProcess.freePort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Latencies of one operation, recorded by a single client thread and merged afterwards.
+     */
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long latencyNanos, boolean succeeded) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!succeeded) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], true);
+            }
+            errors += other.errors;
+        }
+
+        long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.devoops.user.integration;
+
+import com.devoops.user.dto.request.LoginRequest;
+import com.devoops.user.dto.request.RegisterRequest;
+import com.devoops.user.dto.request.UserBatchRequest;
+import com.devoops.user.entity.Role;
+import com.devoops.user.grpc.proto.GetUserSummaryRequest;
+import com.devoops.user.grpc.proto.GetUserSummaryResponse;
+import com.devoops.user.grpc.proto.UserInternalServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.restassured.http.ContentType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Exercises the native executable over HTTP and gRPC, covering the paths that depend on
+ * reflection or resources at runtime: Flyway migrations, Hibernate queries and constructor
+ * projections, Jackson, jjwt, protobuf and the hand-built ObjectMappers.
+ * <p>
+ * Not part of the regular test run; build the executable and execute with
+ * {@code ./gradlew nativeIntegrationTest -Pnative}.
+ */
+@Slf4j
+@Tag("native")
+@Testcontainers
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class NativeImageIntegrationTest {
+
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(30);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("user_db")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static RabbitMQContainer rabbitmq = new RabbitMQContainer("rabbitmq:3-management-alpine");
+
+    @TempDir
+    static Path workDir;
+
+    private static ApplicationProcess application;
+    private static ManagedChannel channel;
+    private static String userId;
+
+    @BeforeAll
+    static void startExecutable() throws Exception {
+        Path executable = Path.of(System.getProperty("native.executable", ""));
+        assertThat(Files.isExecutable(executable) && !Files.isDirectory(executable))
+                .as("native executable %s, build it with ./gradlew nativeCompile -Pnative", executable)
+                .isTrue();
+
+        application = ApplicationProcess.start(List.of(executable.toString(), "-Xmx384m"),
+                postgres, rabbitmq, workDir.resolve("native.log"));
+        Duration timeToReady = application.awaitHealthy(READY_TIMEOUT);
+        log.info("Native executable healthy after {} ms", timeToReady.toMillis());
+
+        channel = ManagedChannelBuilder.forAddress("localhost", application.grpcPort()).usePlaintext().build();
+    }
+
+    @AfterAll
+    static void stopExecutable() throws Exception {
+        if (channel != null) {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+        if (application != null) {
+            logResidentSetSize();
+            application.close();
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should register a user, running the migrations, the insert and JWT signing")
+    void register_ReturnsToken() {
+        RegisterRequest request = new RegisterRequest(
+                "nativeuser", "password123", "native@example.com", "Native", "User", "Belgrade", Role.GUEST);
+
+        userId = given()
+                .contentType(ContentType.JSON)
+                .body(request)
+            .when()
+                .post(application.uri("/api/user/auth/register"))
+            .then()
+                .statusCode(201)
+                .body("accessToken", notNullValue())
+                .body("user.role", equalTo("GUEST"))
+                .extract()
+                .path("user.id");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should log in with the registered credentials")
+    void login_ReturnsToken() {
+        given()
+                .contentType(ContentType.JSON)
+                .body(new LoginRequest("nativeuser", "password123"))
+            .when()
+                .post(application.uri("/api/user/auth/login"))
+            .then()
+                .statusCode(200)
+                .body("accessToken", notNullValue());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should serve the profile through the constructor projection")
+    void getProfile_ReturnsProfile() {
+        given()
+                .header("X-User-Id", userId)
+                .header("X-User-Role", "GUEST")
+            .when()
+                .get(application.uri("/api/user/me"))
+            .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .body("username", equalTo("nativeuser"));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should stream batch lookups with the hand-built ObjectMapper")
+    void batch_StreamsEntries() {
+        given()
+                .contentType(ContentType.JSON)
+                .body(new UserBatchRequest(List.of(userId, UUID.randomUUID().toString())))
+            .when()
+                .post(application.uri("/api/user/batch"))
+            .then()
+                .statusCode(200)
+                .body("[0].user.username", equalTo("nativeuser"))
+                .body("[1].status", equalTo(404));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should answer gRPC summary requests")
+    void getUserSummary_ReturnsSummary() {
+        GetUserSummaryResponse response = UserInternalServiceGrpc.newBlockingStub(channel)
+                .withDeadlineAfter(5, TimeUnit.SECONDS)
+                .getUserSummary(GetUserSummaryRequest.newBuilder().setUserId(userId).build());
+
+        assertThat(response.getFound()).isTrue();
+        assertThat(response.getEmail()).isEqualTo("native@example.com");
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should expose the operation timers to Prometheus")
+    void prometheus_ExposesOperationTimers() {
+        given()
+            .when()
+                .get(application.uri("/actuator/prometheus"))
+            .then()
+                .statusCode(200)
+                .body(containsString("user_operation_duration_seconds_bucket"));
+    }
+
+    private static void logResidentSetSize() throws Exception {
+        Path status = Path.of("/proc", String.valueOf(application.pid()), "status");
+        if (Files.isReadable(status)) {
+            Files.readAllLines(status).stream()
+                    .filter(line -> line.startsWith("VmRSS") || line.startsWith("VmHWM"))
+                    .forEach(line -> log.info("Native executable {}", line.replaceAll("\\s+", " ")));
+        }
+    }
+}
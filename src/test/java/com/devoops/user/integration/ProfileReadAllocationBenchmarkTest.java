@@ -0,0 +1,121 @@
+package com.devoops.user.integration;
+
+import com.devoops.user.dto.response.UserResponse;
+import com.devoops.user.entity.Role;
+import com.devoops.user.entity.User;
+import com.devoops.user.mapper.UserMapper;
+import com.devoops.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the bytes allocated per profile read by the former path (load the managed
+ * {@link User}, then map it) with the {@link UserRepository#findProfileById} projection, measured
+ * with the JVM's per-thread allocation counter.
+ * <p>
+ * Not part of the regular test run; execute with {@code ./gradlew benchmarkTest}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProfileReadAllocationBenchmarkTest {
+
+    private static final int USER_COUNT = 1_000;
+    private static final int WARMUP_READS = 20_000;
+    private static final int MEASURED_READS = 20_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("user_db_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static RabbitMQContainer rabbitmq = new RabbitMQContainer("rabbitmq:3-management-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.rabbitmq.host", rabbitmq::getHost);
+        registry.add("spring.rabbitmq.port", rabbitmq::getAmqpPort);
+        registry.add("logging.level.com.devoops", () -> "INFO");
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    private List<UUID> userIds;
+
+    @BeforeAll
+    void seedUsers() {
+        List<User> users = IntStream.range(0, USER_COUNT)
+                .mapToObj(i -> User.builder()
+                        .username("benchmark" + i)
+                        .password("$2a$10$abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0")
+                        .email("benchmark" + i + "@example.com")
+                        .firstName("Bench")
+                        .lastName("Mark")
+                        .residence("Belgrade")
+                        .role(i % 2 == 0 ? Role.GUEST : Role.HOST)
+                        .build())
+                .toList();
+        userIds = userRepository.saveAll(users).stream().map(User::getId).toList();
+    }
+
+    @Test
+    @DisplayName("Profile reads through the projection should allocate less than entity reads")
+    void findProfileById_AllocatesLessThanEntityRead() {
+        Function<UUID, UserResponse> entityRead = id -> userMapper.toUserResponse(userRepository.findById(id).orElseThrow());
+        Function<UUID, UserResponse> projectionRead = id -> userMapper.toUserResponse(userRepository.findProfileById(id).orElseThrow());
+
+        // Both paths must return the same profile
+        assertThat(projectionRead.apply(userIds.getFirst())).isEqualTo(entityRead.apply(userIds.getFirst()));
+
+        measure(entityRead, WARMUP_READS);
+        measure(projectionRead, WARMUP_READS);
+        long entityBytes = measure(entityRead, MEASURED_READS);
+        long projectionBytes = measure(projectionRead, MEASURED_READS);
+
+        log.info("Bytes allocated per profile read: entity={}, projection={} ({}% less)", entityBytes, projectionBytes,
+                100 - projectionBytes * 100 / entityBytes);
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    private long measure(Function<UUID, UserResponse> read, int reads) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < reads; i++) {
+            read.apply(userIds.get(i % userIds.size()));
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / reads;
+    }
+}
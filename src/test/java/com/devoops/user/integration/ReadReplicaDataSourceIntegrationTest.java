@@ -0,0 +1,109 @@
+package com.devoops.user.integration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Starts the application with {@code datasource.replica.url} set, pointing the replica at the
+ * same container, to check both pools are built from the standard Spring Boot properties and
+ * reported by the actuator.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@ActiveProfiles("test")
+class ReadReplicaDataSourceIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("user_db_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static RabbitMQContainer rabbitmq = new RabbitMQContainer("rabbitmq:3-management-alpine")
+            .withExposedPorts(5672, 15672);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "4");
+        registry.add("spring.datasource.hikari.connection-timeout", () -> "7000");
+        registry.add("datasource.replica.url", postgres::getJdbcUrl);
+        registry.add("datasource.replica.hikari.maximum-pool-size", () -> "3");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.rabbitmq.host", rabbitmq::getHost);
+        registry.add("spring.rabbitmq.port", rabbitmq::getAmqpPort);
+        registry.add("spring.rabbitmq.username", () -> "guest");
+        registry.add("spring.rabbitmq.password", () -> "guest");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = "";
+    }
+
+    @Test
+    @DisplayName("Should build the primary pool from spring.datasource and spring.datasource.hikari")
+    void primaryDataSource_UsesSpringDatasourceProperties() {
+        assertThat(primaryDataSource.getPoolName()).isEqualTo("primary");
+        assertThat(primaryDataSource.getDriverClassName()).isEqualTo("org.postgresql.Driver");
+        assertThat(primaryDataSource.getMaximumPoolSize()).isEqualTo(4);
+        assertThat(primaryDataSource.getConnectionTimeout()).isEqualTo(7000);
+        assertThat(primaryDataSource.isReadOnly()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should build the replica pool from datasource.replica with the primary's credentials")
+    void replicaDataSource_UsesReplicaPropertiesAndPrimaryCredentials() {
+        assertThat(replicaDataSource.getPoolName()).isEqualTo("replica");
+        assertThat(replicaDataSource.getDriverClassName()).isEqualTo("org.postgresql.Driver");
+        assertThat(replicaDataSource.getUsername()).isEqualTo(postgres.getUsername());
+        assertThat(replicaDataSource.getMaximumPoolSize()).isEqualTo(3);
+        assertThat(replicaDataSource.isReadOnly()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report both pools in /actuator/health")
+    void health_ReportsPrimaryAndReplica() {
+        given()
+        .when()
+            .get("/actuator/health")
+        .then()
+            .statusCode(200)
+            .body("components.db.components.primaryDataSource.status", equalTo("UP"))
+            .body("components.db.components.replicaDataSource.status", equalTo("UP"));
+    }
+}
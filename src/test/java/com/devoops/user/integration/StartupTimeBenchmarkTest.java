@@ -0,0 +1,166 @@
+package com.devoops.user.integration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures time-to-ready of the boot jar in each startup mode: a plain JVM, Spring AOT-processed
+ * bean definitions when the jar was built with {@code -Paot}, the JDK AOT cache the Dockerfile
+ * trains, and the native executable when one was built with {@code -Pnative}. Time-to-ready runs
+ * from launching the process until {@code /actuator/health} answers 200, with the GC and CPU
+ * count of the pod.
+ * <p>
+ * Not part of the regular test run; execute with {@code ./gradlew benchmarkTest}, adding
+ * {@code -Paot} and/or {@code -Pnative}.
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers
+class StartupTimeBenchmarkTest {
+
+    private static final List<String> POD_JVM_ARGS = List.of(
+            "-XX:+UseSerialGC", "-Xms128m", "-Xmx384m", "-XX:ActiveProcessorCount=1");
+    private static final int MEASURED_RUNS = 3;
+    private static final Duration READY_TIMEOUT = Duration.ofMinutes(3);
+    private static final String UNREACHABLE_HOST = "training.invalid";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("user_db")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static RabbitMQContainer rabbitmq = new RabbitMQContainer("rabbitmq:3-management-alpine");
+
+    @TempDir
+    static Path workDir;
+
+    private static Path applicationJar;
+    private static boolean aotProcessed;
+    private static Path nativeExecutable;
+
+    @BeforeAll
+    static void extractJar() throws Exception {
+        Path bootJar = Path.of(System.getProperty("startup.benchmark.jar"));
+        aotProcessed = Boolean.getBoolean("startup.benchmark.aot");
+        Path executable = Path.of(System.getProperty("startup.benchmark.native", ""));
+        nativeExecutable = Files.isExecutable(executable) && !Files.isDirectory(executable) ? executable : null;
+
+        Path extracted = workDir.resolve("extracted");
+        run(List.of(java(), "-Djarmode=tools", "-jar", bootJar.toString(), "extract", "--destination", extracted.toString()),
+                Map.of());
+        applicationJar = extracted.resolve(bootJar.getFileName());
+    }
+
+    @Test
+    @DisplayName("Report time-to-ready for each startup mode")
+    void reportTimeToReady() throws Exception {
+        List<String> springAot = aotProcessed ? List.of("-Dspring.aot.enabled=true") : List.of();
+        Path aotCache = workDir.resolve("app.aot");
+        train(aotCache, springAot);
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("jvm", jarCommand(List.of()));
+        if (aotProcessed) {
+            modes.put("spring-aot", jarCommand(springAot));
+        }
+        List<String> cached = new ArrayList<>(springAot);
+        cached.add("-XX:AOTMode=on");
+        cached.add("-XX:AOTCache=" + aotCache);
+        modes.put(aotProcessed ? "spring-aot+aot-cache" : "aot-cache", jarCommand(cached));
+        if (nativeExecutable != null) {
+            modes.put("native", List.of(nativeExecutable.toString(), "-Xmx384m"));
+        }
+
+        // The first start also applies the Flyway migrations, so it is not measured
+        timeToReady(jarCommand(List.of()));
+
+        Map<String, Long> medians = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            List<Long> runs = new ArrayList<>();
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                runs.add(timeToReady(mode.getValue()));
+            }
+            medians.put(mode.getKey(), runs.stream().sorted().toList().get(MEASURED_RUNS / 2));
+            log.info("Time-to-ready [{}]: runs={} ms", mode.getKey(), runs);
+        }
+
+        long baseline = medians.get("jvm");
+        medians.forEach((mode, median) ->
+                log.info("Time-to-ready [{}]: median={} ms ({}% of jvm)", mode, median, median * 100 / baseline));
+        assertThat(medians).allSatisfy((mode, median) -> assertThat(median).isPositive());
+    }
+
+    /**
+     * Same training run as the Dockerfile, with Spring AOT when the jar was built with
+     * {@code -Paot}, and like the image build with no database or broker reachable: the hosts
+     * point at a reserved domain that never resolves.
+     */
+    private void train(Path aotCache, List<String> springAot) throws Exception {
+        List<String> command = new ArrayList<>(List.of(java()));
+        command.addAll(POD_JVM_ARGS);
+        command.add("-XX:AOTCacheOutput=" + aotCache);
+        command.addAll(springAot);
+        command.addAll(List.of("-Dspring.context.exit=onRefresh", "-Dspring.profiles.active=training",
+                "-jar", applicationJar.toString()));
+        run(command, Map.of(
+                "POSTGRES_HOST", UNREACHABLE_HOST,
+                "RABBITMQ_HOST", UNREACHABLE_HOST));
+        assertThat(aotCache).exists();
+    }
+
+    /**
+     * Start the application, wait until it reports healthy and stop it again.
+     *
+     * @return the milliseconds from launch to the first healthy response
+     */
+    private long timeToReady(List<String> command) throws Exception {
+        try (ApplicationProcess application = ApplicationProcess.start(
+                command, postgres, rabbitmq, Files.createTempFile(workDir, "app", ".log"))) {
+            return application.awaitHealthy(READY_TIMEOUT).toMillis();
+        }
+    }
+
+    private List<String> jarCommand(List<String> modeArgs) {
+        List<String> command = new ArrayList<>(List.of(java()));
+        command.addAll(POD_JVM_ARGS);
+        command.addAll(modeArgs);
+        command.addAll(List.of("-jar", applicationJar.toString()));
+        return command;
+    }
+
+    private static void run(List<String> command, Map<String, String> environment) throws Exception {
+        Path output = Files.createTempFile(workDir, "command", ".log");
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile());
+        builder.environment().putAll(environment);
+        Process process = builder.start();
+        assertThat(process.waitFor(READY_TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+        assertThat(process.exitValue()).as("%s failed:%n%s", command, Files.readString(output)).isZero();
+    }
+
+    private static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+}
@@ -0,0 +1,238 @@
+package com.devoops.user.integration;
+
+import com.devoops.user.dto.request.RegisterRequest;
+import com.devoops.user.entity.Role;
+import com.devoops.user.grpc.proto.GetUserSummariesRequest;
+import com.devoops.user.grpc.proto.GetUserSummaryResponse;
+import com.devoops.user.grpc.proto.UserInternalServiceGrpc;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the real REST and gRPC read endpoints of the boot jar in both threading modes, with
+ * platform threads and with {@code spring.threads.virtual.enabled=true}, from more concurrent
+ * clients than Tomcat has worker threads. The response caches are disabled so every call
+ * blocks on JDBC. Reports throughput and p50/p99 latency per mode and endpoint.
+ * <p>
+ * Not part of the regular test run; execute with {@code ./gradlew benchmarkTest}.
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers
+class ThreadingModeBenchmarkTest {
+
+    private static final int CONCURRENCY = 400;
+    private static final int SEEDED_USERS = 200;
+    private static final int SUMMARY_BATCH_SIZE = 20;
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+    private static final Duration DURATION = Duration.ofSeconds(30);
+    private static final Duration READY_TIMEOUT = Duration.ofMinutes(3);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("user_db")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static RabbitMQContainer rabbitmq = new RabbitMQContainer("rabbitmq:3-management-alpine");
+
+    @TempDir
+    static Path workDir;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<String> userIds = new ArrayList<>();
+
+    enum Endpoint { PROFILE, GRPC_SUMMARIES }
+
+    record Result(long requests, long errors, double throughput, double p50Ms, double p99Ms) {}
+
+    record ClientSamples(Map<Endpoint, List<Long>> latencies, Map<Endpoint, Long> errors) {}
+
+    @Test
+    @DisplayName("Report endpoint throughput and latency for platform and virtual threads")
+    void reportThreadingModes() throws Exception {
+        Map<String, Map<Endpoint, Result>> modes = new LinkedHashMap<>();
+        for (boolean virtual : new boolean[] {false, true}) {
+            String mode = virtual ? "virtual" : "platform";
+            modes.put(mode, measure(virtual));
+        }
+
+        modes.forEach((mode, results) -> results.forEach((endpoint, result) -> log.info(
+                "Threading [{}] {}: requests={}, errors={}, throughput={}/s, p50={} ms, p99={} ms",
+                mode, endpoint, result.requests(), result.errors(), "%.1f".formatted(result.throughput()),
+                "%.1f".formatted(result.p50Ms()), "%.1f".formatted(result.p99Ms()))));
+        assertThat(modes).allSatisfy((mode, results) -> assertThat(results).allSatisfy((endpoint, result) -> {
+            assertThat(result.requests()).as("%s %s requests", mode, endpoint).isPositive();
+            assertThat(result.errors()).as("%s %s errors", mode, endpoint).isZero();
+        }));
+    }
+
+    private Map<Endpoint, Result> measure(boolean virtualThreads) throws Exception {
+        List<String> command = List.of(java(),
+                "-Dspring.threads.virtual.enabled=" + virtualThreads,
+                "-Dprofile.cache.max-size=0",
+                "-Dgrpc.user-summary-cache.max-size=0",
+                "-Dlogging.level.com.devoops=INFO",
+                "-jar", System.getProperty("startup.benchmark.jar"));
+        try (ApplicationProcess application = ApplicationProcess.start(
+                command, postgres, rabbitmq, Files.createTempFile(workDir, "app", ".log"))) {
+            application.awaitHealthy(READY_TIMEOUT);
+            if (userIds.isEmpty()) {
+                seedUsers(application);
+            }
+            ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", application.grpcPort())
+                    .usePlaintext()
+                    .build();
+            try {
+                UserInternalServiceGrpc.UserInternalServiceBlockingStub stub = UserInternalServiceGrpc.newBlockingStub(channel);
+                runLoad(application, stub, WARMUP);
+                return runLoad(application, stub, DURATION);
+            } finally {
+                channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    /**
+     * Run {@link #CONCURRENCY} closed-loop clients, alternating between the endpoints.
+     */
+    private Map<Endpoint, Result> runLoad(ApplicationProcess application,
+                                          UserInternalServiceGrpc.UserInternalServiceBlockingStub stub,
+                                          Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<ClientSamples>> clients = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                clients.add(executor.submit(() -> runClient(application, stub, deadline)));
+            }
+        }
+
+        Map<Endpoint, Result> results = new LinkedHashMap<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            long[] sorted = clients.stream()
+                    .flatMap(client -> client.resultNow().latencies().getOrDefault(endpoint, List.of()).stream())
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray();
+            long failed = clients.stream()
+                    .mapToLong(client -> client.resultNow().errors().getOrDefault(endpoint, 0L))
+                    .sum();
+            results.put(endpoint, new Result(sorted.length, failed, (sorted.length - failed) / (double) duration.toSeconds(),
+                    percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99)));
+        }
+        return results;
+    }
+
+    private ClientSamples runClient(ApplicationProcess application,
+                                    UserInternalServiceGrpc.UserInternalServiceBlockingStub stub, long deadline) {
+        Map<Endpoint, List<Long>> latencies = new LinkedHashMap<>();
+        Map<Endpoint, Long> errors = new LinkedHashMap<>();
+        int call = ThreadLocalRandom.current().nextInt(2);
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = Endpoint.values()[call++ % 2];
+            long started = System.nanoTime();
+            boolean succeeded;
+            try {
+                succeeded = switch (endpoint) {
+                    case PROFILE -> getProfile(application) == 200;
+                    case GRPC_SUMMARIES -> getSummaries(stub) == SUMMARY_BATCH_SIZE;
+                };
+            } catch (Exception e) {
+                succeeded = false;
+            }
+            latencies.computeIfAbsent(endpoint, key -> new ArrayList<>()).add(System.nanoTime() - started);
+            if (!succeeded) {
+                errors.merge(endpoint, 1L, Long::sum);
+            }
+        }
+        return new ClientSamples(latencies, errors);
+    }
+
+    // Identity headers as set by the gateway
+    private int getProfile(ApplicationProcess application) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(application.uri("/api/user/me"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("X-User-Id", randomUserId())
+                .header("X-User-Role", Role.GUEST.name())
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private long getSummaries(UserInternalServiceGrpc.UserInternalServiceBlockingStub stub) {
+        GetUserSummariesRequest.Builder request = GetUserSummariesRequest.newBuilder();
+        for (int i = 0; i < SUMMARY_BATCH_SIZE; i++) {
+            request.addUserIds(randomUserId());
+        }
+        return stub.withDeadlineAfter(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+                .getUserSummaries(request.build())
+                .getSummariesList().stream()
+                .filter(GetUserSummaryResponse::getFound)
+                .count();
+    }
+
+    private void seedUsers(ApplicationProcess application) throws Exception {
+        for (int i = 0; i < SEEDED_USERS; i++) {
+            String username = "threading" + i + "_" + UUID.randomUUID().toString().substring(0, 8);
+            HttpRequest request = HttpRequest.newBuilder(application.uri("/api/user/auth/register"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(new RegisterRequest(
+                            username, "password123", username + "@example.com", "Threading", "Test", "Belgrade",
+                            Role.GUEST))))
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).as("registration: %s", response.body()).isEqualTo(201);
+            userIds.add(OBJECT_MAPPER.readTree(response.body()).path("user").path("id").asText());
+        }
+        log.info("Seeded {} users for the threading mode benchmark", userIds.size());
+    }
+
+    private String randomUserId() {
+        return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+}
@@ -0,0 +1,143 @@
+package com.devoops.user.metrics;
+
+import com.devoops.user.grpc.proto.GetUserSummaryRequest;
+import com.devoops.user.grpc.proto.GetUserSummaryResponse;
+import com.devoops.user.grpc.proto.UserInternalServiceGrpc;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.binder.grpc.ObservationGrpcClientInterceptor;
+import io.micrometer.core.instrument.binder.grpc.ObservationGrpcServerInterceptor;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the interceptors as {@link com.devoops.user.config.GrpcMetricsConfig} installs them,
+ * around an in-process server, so both sides of each call are measured.
+ */
+class GrpcPayloadSizeInterceptorTest {
+
+    private static final String SERVICE = "user.UserInternalService";
+
+    private SimpleMeterRegistry meterRegistry;
+    private Server server;
+    private ManagedChannel channel;
+    private UserInternalServiceGrpc.UserInternalServiceBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(new StubUserService(),
+                        GrpcPayloadSizeInterceptor.server(meterRegistry),
+                        new ObservationGrpcServerInterceptor(observationRegistry)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+        stub = UserInternalServiceGrpc.newBlockingStub(ClientInterceptors.intercept(channel,
+                GrpcPayloadSizeInterceptor.client(meterRegistry),
+                new ObservationGrpcClientInterceptor(observationRegistry)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should record request and response sizes on both sides of a call")
+    void successfulCall_RecordsPayloadSizes() {
+        // Given
+        GetUserSummaryRequest request = GetUserSummaryRequest.newBuilder()
+                .setUserId(UUID.randomUUID().toString())
+                .build();
+
+        // When
+        GetUserSummaryResponse response = stub.getUserSummary(request);
+
+        // Then
+        for (String side : new String[]{"server", "client"}) {
+            DistributionSummary requestSize = summary("rpc." + side + ".request.size");
+            DistributionSummary responseSize = summary("rpc." + side + ".response.size");
+            assertThat(requestSize.count()).isEqualTo(1);
+            assertThat(requestSize.totalAmount()).isEqualTo(request.getSerializedSize());
+            assertThat(responseSize.count()).isEqualTo(1);
+            assertThat(responseSize.totalAmount()).isEqualTo(response.getSerializedSize());
+        }
+    }
+
+    @Test
+    @DisplayName("Should time calls per method and status code")
+    void calls_AreTimedByStatusCode() {
+        // Given
+        GetUserSummaryRequest valid = GetUserSummaryRequest.newBuilder().setUserId(UUID.randomUUID().toString()).build();
+        GetUserSummaryRequest invalid = GetUserSummaryRequest.newBuilder().setUserId("").build();
+
+        // When
+        stub.getUserSummary(valid);
+        assertThatThrownBy(() -> stub.getUserSummary(invalid)).isInstanceOf(StatusRuntimeException.class);
+
+        // Then
+        for (String timer : new String[]{"grpc.server", "grpc.client"}) {
+            assertThat(meterRegistry.get(timer)
+                    .tags("rpc.method", "GetUserSummary", "grpc.status_code", "OK")
+                    .timer()
+                    .count()).isEqualTo(1);
+            assertThat(meterRegistry.get(timer)
+                    .tags("rpc.method", "GetUserSummary", "grpc.status_code", "INVALID_ARGUMENT")
+                    .timer()
+                    .count()).isEqualTo(1);
+        }
+        assertThat(summary("rpc.server.response.size").count()).isEqualTo(1);
+    }
+
+    private DistributionSummary summary(String name) {
+        return meterRegistry.get(name)
+                .tags("rpc.service", SERVICE, "rpc.method", "GetUserSummary")
+                .summary();
+    }
+
+    private static class StubUserService extends UserInternalServiceGrpc.UserInternalServiceImplBase {
+
+        @Override
+        public void getUserSummary(GetUserSummaryRequest request, StreamObserver<GetUserSummaryResponse> responseObserver) {
+            if (request.getUserId().isEmpty()) {
+                responseObserver.onError(Status.INVALID_ARGUMENT.asRuntimeException());
+                return;
+            }
+            responseObserver.onNext(GetUserSummaryResponse.newBuilder()
+                    .setFound(true)
+                    .setUserId(request.getUserId())
+                    .setEmail("test@example.com")
+                    .setFirstName("Test")
+                    .setLastName("User")
+                    .setRole("GUEST")
+                    .build());
+            responseObserver.onCompleted();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.devoops.user.metrics;
+
+import com.devoops.user.exception.InvalidCredentialsException;
+import com.devoops.user.exception.UserNotFoundException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OperationTimerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OperationTimer operationTimer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        operationTimer = new OperationTimer(meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("record Tests")
+    class RecordTests {
+
+        @Test
+        @DisplayName("Should return the result and tag the operation as successful")
+        void record_Success_TagsSuccess() {
+            // When
+            String result = operationTimer.record("auth.token", () -> "jwt-token");
+
+            // Then
+            assertThat(result).isEqualTo("jwt-token");
+            assertThat(timer("auth.token", Outcome.SUCCESS).count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should rethrow failures and tag them with their outcome")
+        void record_Failure_TagsClassifiedOutcome() {
+            // When/Then
+            assertThatThrownBy(() -> operationTimer.run("auth.login", () -> {
+                throw new InvalidCredentialsException("Invalid username/email or password");
+            })).isInstanceOf(InvalidCredentialsException.class);
+
+            assertThat(timer("auth.login", Outcome.INVALID_CREDENTIALS).count()).isEqualTo(1);
+            assertThat(meterRegistry.find(OperationTimer.METRIC_NAME)
+                    .tags("operation", "auth.login", "outcome", Outcome.SUCCESS)
+                    .timer()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should record the outcome chosen by the caller")
+        void startStop_RecordsGivenOutcome() {
+            // Given
+            Timer.Sample sample = operationTimer.start();
+
+            // When
+            operationTimer.stop(sample, "auth.login.lookup", Outcome.USER_NOT_FOUND);
+
+            // Then
+            assertThat(timer("auth.login.lookup", Outcome.USER_NOT_FOUND).count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Outcome Tests")
+    class OutcomeTests {
+
+        @Test
+        @DisplayName("Should classify domain exceptions")
+        void of_DomainException_ReturnsOutcome() {
+            assertThat(Outcome.of(new UserNotFoundException("User does not exist"))).isEqualTo(Outcome.USER_NOT_FOUND);
+            assertThat(Outcome.of(new IllegalStateException("boom"))).isEqualTo(Outcome.ERROR);
+        }
+
+        @Test
+        @DisplayName("Should classify gRPC failures by status code, also when wrapped")
+        void of_GrpcFailure_ReturnsStatusCode() {
+            StatusRuntimeException failure = new StatusRuntimeException(Status.DEADLINE_EXCEEDED);
+
+            assertThat(Outcome.of(failure)).isEqualTo("deadline_exceeded");
+            assertThat(Outcome.of(new RuntimeException("Failed to check guest deletion eligibility", failure)))
+                    .isEqualTo("deadline_exceeded");
+        }
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return meterRegistry.get(OperationTimer.METRIC_NAME)
+                .tags("operation", operation, "outcome", outcome)
+                .timer();
+    }
+}
@@ -0,0 +1,105 @@
+package com.devoops.user.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs V4 against data written under the V1 constraints, which allowed active users to share an
+ * email or a username differing only in case.
+ */
+@Testcontainers
+class CaseInsensitiveLoginMigrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("user_db_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @BeforeEach
+    void migrateToV3() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA public CASCADE; CREATE SCHEMA public");
+        }
+        flyway("3").migrate();
+    }
+
+    @Test
+    @DisplayName("Should stop with the conflicting values when active users share a login case-insensitively")
+    void migrate_WithCaseVariantDuplicates_FailsWithConflicts() throws SQLException {
+        // Given
+        insertUser("Alice", "alice@example.com", false);
+        insertUser("alice", "other@example.com", false);
+        insertUser("bob", "Shared@example.com", false);
+        insertUser("carol", "shared@example.com", false);
+
+        // When/Then
+        assertThatThrownBy(() -> flyway(null).migrate())
+                .isInstanceOf(FlywayException.class)
+                .hasMessageContaining("username alice")
+                .hasMessageContaining("email shared@example.com");
+        assertThat(indexExists("ux_users_username_lower_active")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should build the indexes once the conflicting account is soft-deleted")
+    void migrate_WithDuplicatesOnlyAmongDeletedUsers_CreatesIndexes() throws SQLException {
+        // Given
+        insertUser("Alice", "alice@example.com", true);
+        insertUser("alice", "alice@example.com", false);
+
+        // When
+        flyway(null).migrate();
+
+        // Then
+        assertThat(indexExists("ux_users_username_lower_active")).isTrue();
+        assertThat(indexExists("ux_users_email_lower_active")).isTrue();
+    }
+
+    private static void insertUser(String username, String email, boolean deleted) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO users (id, username, password, email, first_name, last_name, residence, role, is_deleted)
+                    VALUES (gen_random_uuid(), '%s', 'hash', '%s', 'First', 'Last', 'City', 'GUEST', %s)
+                    """.formatted(username, email, deleted));
+        }
+    }
+
+    private static boolean indexExists(String name) throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT 1 FROM pg_indexes WHERE indexname = '" + name + "'")) {
+            return resultSet.next();
+        }
+    }
+
+    private static Flyway flyway(String target) {
+        var configuration = Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration");
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
@@ -0,0 +1,124 @@
+package com.devoops.user.repository;
+
+import com.devoops.user.dto.request.UserListFilter;
+import com.devoops.user.dto.response.AdminUserResponse;
+import com.devoops.user.entity.Role;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the admin listing queries against the migrated schema: keyset pages must cover every
+ * matching user exactly once, in order, and be served by {@code ix_users_created_at_id}.
+ */
+@Testcontainers
+class UserListingRepositoryTest {
+
+    private static final int USER_COUNT = 5_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("user_db_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    private static DriverManagerDataSource dataSource;
+    private static UserListingRepository repository;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        // Users created in batches of ten share a timestamp, so the id tie-breaker is exercised
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                INSERT INTO users (id, username, password, email, first_name, last_name, residence, role,
+                                   is_deleted, created_at)
+                SELECT gen_random_uuid(), 'user' || i, 'hash', 'user' || i || '@example.com', 'First', 'Last', 'City',
+                       CASE WHEN i % 3 = 0 THEN 'HOST'::user_role ELSE 'GUEST'::user_role END, i % 10 = 0,
+                       TIMESTAMP '2026-01-01 00:00:00' + (i / 10) * INTERVAL '1 second'
+                FROM generate_series(1, %d) AS i
+                """.formatted(USER_COUNT));
+        jdbcTemplate.execute("ANALYZE users");
+
+        repository = new UserListingRepository(dataSource, 100);
+    }
+
+    @Test
+    @DisplayName("Keyset pages should return every user exactly once in (created_at, id) order")
+    void findPage_PagingThroughAllUsers_ReturnsEachUserOnce() {
+        UserListFilter filter = new UserListFilter(null, null);
+        List<AdminUserResponse> all = new ArrayList<>();
+        UserCursor after = null;
+        List<AdminUserResponse> page;
+        do {
+            page = repository.findPage(filter, after, 333);
+            all.addAll(page);
+            if (!page.isEmpty()) {
+                AdminUserResponse last = page.getLast();
+                after = new UserCursor(last.createdAt(), last.id());
+            }
+        } while (page.size() == 333);
+
+        assertThat(all).hasSize(USER_COUNT);
+        assertThat(all.stream().map(AdminUserResponse::id).distinct()).hasSize(USER_COUNT);
+        assertThat(all).isSortedAccordingTo((a, b) -> a.createdAt().equals(b.createdAt())
+                ? a.id().toString().compareTo(b.id().toString())
+                : a.createdAt().compareTo(b.createdAt()));
+    }
+
+    @Test
+    @DisplayName("Filters should restrict the listing by role and deleted state")
+    void findPage_WithFilters_ReturnsMatchingUsersOnly() {
+        List<AdminUserResponse> deletedHosts = repository.findPage(new UserListFilter(Role.HOST, true), null, 1_000);
+
+        // Multiples of 30 are both hosts and deleted
+        assertThat(deletedHosts).hasSize(USER_COUNT / 30)
+                .allMatch(user -> user.role() == Role.HOST && user.deleted());
+    }
+
+    @Test
+    @DisplayName("Export should stream every matching user through a cursor inside a transaction")
+    void forEach_InsideTransaction_StreamsAllMatchingUsers() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        List<UUID> exported = new ArrayList<>();
+
+        transactionTemplate.executeWithoutResult(status ->
+                repository.forEach(new UserListFilter(null, false), user -> exported.add(user.id())));
+
+        assertThat(exported).hasSize(USER_COUNT - USER_COUNT / 10).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Keyset page queries should seek in the (created_at, id) index")
+    void findPage_QueryPlan_UsesKeysetIndex() {
+        String plan = String.join("\n", new JdbcTemplate(dataSource).queryForList(
+                "EXPLAIN SELECT " + UserListingRepository.COLUMNS + " FROM users"
+                        + " WHERE (created_at, id) > (TIMESTAMP '2026-01-01 00:05:00', '00000000-0000-0000-0000-000000000000'::uuid)"
+                        + " ORDER BY created_at, id LIMIT 51",
+                String.class));
+
+        assertThat(plan)
+                .contains("ix_users_created_at_id")
+                .doesNotContain("Seq Scan");
+    }
+}
@@ -0,0 +1,175 @@
+package com.devoops.user.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the query plans of the login lookups and the user search against the migrated schema,
+ * using the exact SQL declared on {@link UserRepository}, so a change to either the queries or
+ * the indexes that breaks index usage is caught.
+ */
+@Testcontainers
+class UserRepositoryQueryPlanTest {
+
+    private static final int USER_COUNT = 10_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("user_db_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO users (id, username, password, email, first_name, last_name, residence, role, is_deleted)
+                    SELECT gen_random_uuid(), 'User' || i, 'hash', 'User' || i || '@Example.com',
+                           'First', 'Last', 'City', 'GUEST'::user_role, i % 10 = 0
+                    FROM generate_series(1, %d) AS i
+                    """.formatted(USER_COUNT));
+            statement.execute("ANALYZE users");
+        }
+    }
+
+    @Test
+    @DisplayName("Login by email should use the lower(email) partial index")
+    void findActiveByEmailIgnoreCase_UsesEmailIndex() throws Exception {
+        String plan = explain(repositoryQuery("findActiveByEmailIgnoreCase"), "user42@example.COM");
+
+        assertThat(plan)
+                .contains("ux_users_email_lower_active")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("Login by username should use the lower(username) partial index")
+    void findActiveByUsernameIgnoreCase_UsesUsernameIndex() throws Exception {
+        String plan = explain(repositoryQuery("findActiveByUsernameIgnoreCase"), "USER42");
+
+        assertThat(plan)
+                .contains("ux_users_username_lower_active")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("Case-insensitive lookups should find active users only")
+    void findActiveByEmailIgnoreCase_MatchesIgnoringCaseAndSkipsDeleted() throws Exception {
+        assertThat(count(repositoryQuery("findActiveByEmailIgnoreCase"), "USER41@EXAMPLE.COM")).isEqualTo(1);
+        // Every tenth user is soft-deleted
+        assertThat(count(repositoryQuery("findActiveByEmailIgnoreCase"), "user40@example.com")).isZero();
+    }
+
+    @Test
+    @DisplayName("User search should use the trigram index on the search text")
+    void search_UsesTrigramIndex() throws Exception {
+        String plan = explain(searchQuery(), "user4242", "%user4242%", 1_000, 21, 0L);
+
+        assertThat(plan)
+                .contains("ix_users_search_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("User search should rank the best match first even when a broad term exceeds the candidates")
+    void search_WithBroadTerm_KeepsBestMatchAmongCandidates() throws Exception {
+        // Every active user matches "user"; only 100 of them are ranked
+        assertThat(usernames(searchQuery(), "user4242", "%user%", 100, 10, 0L)).first().isEqualTo("User4242");
+    }
+
+    @Test
+    @DisplayName("User search pages over broad terms should neither overlap nor change between calls")
+    void search_WithBroadTerm_PagesAreStable() throws Exception {
+        List<String> firstPage = usernames(searchQuery(), "user", "%user%", 100, 20, 0L);
+        List<String> secondPage = usernames(searchQuery(), "user", "%user%", 100, 20, 20L);
+
+        assertThat(firstPage).hasSize(20).doesNotContainAnyElementsOf(secondPage);
+        assertThat(usernames(searchQuery(), "user", "%user%", 100, 20, 0L)).isEqualTo(firstPage);
+    }
+
+    private static String searchQuery() throws NoSuchMethodException {
+        return repositoryQuery("search", String.class, String.class, int.class, int.class, long.class);
+    }
+
+    private static String repositoryQuery(String methodName) throws NoSuchMethodException {
+        return repositoryQuery(methodName, String.class);
+    }
+
+    private static String repositoryQuery(String methodName, Class<?>... parameterTypes) throws NoSuchMethodException {
+        String sql = UserRepository.class.getMethod(methodName, parameterTypes).getAnnotation(Query.class).value();
+        return sql.replaceAll(":\\w+", "?");
+    }
+
+    private static String explain(String sql, Object... parameters) throws SQLException {
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static List<String> usernames(String sql, Object... parameters) throws SQLException {
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            List<String> usernames = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    usernames.add(resultSet.getString("username"));
+                }
+            }
+            return usernames;
+        }
+    }
+
+    private static int count(String sql, String parameter) throws SQLException {
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, parameter);
+            int rows = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows++;
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
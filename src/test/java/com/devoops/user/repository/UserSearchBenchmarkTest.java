@@ -0,0 +1,203 @@
+package com.devoops.user.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures {@link UserRepository#search} latency against one million generated users and asserts
+ * that the 99th percentile stays below {@link #P99_TARGET}, both over a realistic mix of terms and
+ * over broad terms alone.
+ * <p>
+ * Not part of the regular test run; execute with {@code ./gradlew benchmarkTest}. Most search terms
+ * are taken from random existing users and mix selective fragments (part of a username) with
+ * names shared by hundreds of users. The rest are the shortest terms the endpoint accepts that
+ * match most or all users, such as {@code com}, where the candidate cap bounds the work.
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers
+class UserSearchBenchmarkTest {
+
+    private static final int USER_COUNT = 1_000_000;
+    private static final int WARMUP_QUERIES = 200;
+    private static final int MEASURED_QUERIES = 2_000;
+    private static final int PAGE_SIZE = 20;
+    // AdminUserService.MAX_SEARCH_CANDIDATES
+    private static final int CANDIDATES = 1_000;
+    // Three-character terms matching most or all generated users ("com" and "exa" match every email)
+    private static final List<String> BROAD_TERMS = List.of("com", "exa", "ple", "ann", "mar", "son", "ovi");
+    private static final int BROAD_TERM_REPEATS = 15;
+    private static final Duration P99_TARGET = Duration.ofMillis(100);
+
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Marko", "Jelena", "Nikola", "Milica", "Stefan", "Ivana", "Luka", "Teodora", "Filip",
+            "Sara", "Lazar", "Katarina", "Uros", "Maja", "Petar", "Jovana", "Aleksa", "Tamara", "Vuk",
+            "John", "Emma", "Liam", "Olivia", "Noah", "Sophia", "Lucas", "Mia", "Ethan", "Isabella",
+            "Mateo", "Chloe", "David", "Laura", "Daniel", "Elena", "Adam", "Nina", "Leon", "Eva"
+    };
+    private static final String[] LAST_NAMES = {
+            "Jovanovic", "Petrovic", "Nikolic", "Markovic", "Djordjevic", "Stojanovic", "Ilic", "Stankovic",
+            "Pavlovic", "Milosevic", "Novak", "Horvat", "Kovac", "Babic", "Maric", "Smith", "Johnson", "Brown",
+            "Taylor", "Miller", "Wilson", "Moore", "Anderson", "Thomas", "Martin", "Garcia", "Martinez",
+            "Lopez", "Muller", "Schmidt", "Schneider", "Fischer", "Weber", "Meyer", "Wagner", "Rossi",
+            "Russo", "Ferrari", "Esposito", "Bianchi"
+    };
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("user_db_benchmark")
+            .withUsername("test")
+            .withPassword("test");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        // Load the data before the trigram index exists, so it is built once instead of row by row
+        flyway("5").migrate();
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO users (id, username, password, email, first_name, last_name, residence, role,
+                                       is_deleted)
+                    SELECT gen_random_uuid(),
+                           lower(first_name) || '_' || substr(md5(i::text), 1, 10),
+                           'hash',
+                           lower(first_name) || '.' || lower(last_name) || i || '@example.com',
+                           first_name, last_name, 'City',
+                           CASE WHEN i %% 4 = 0 THEN 'HOST'::user_role ELSE 'GUEST'::user_role END,
+                           i %% 50 = 0
+                    FROM (SELECT i,
+                                 (%s)[1 + i %% %d] AS first_name,
+                                 (%s)[1 + (i / %d) %% %d] AS last_name
+                          FROM generate_series(1, %d) AS i) AS generated
+                    """.formatted(sqlArray(FIRST_NAMES), FIRST_NAMES.length,
+                    sqlArray(LAST_NAMES), FIRST_NAMES.length, LAST_NAMES.length, USER_COUNT));
+        }
+        flyway(null).migrate();
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE users");
+        }
+    }
+
+    @Test
+    @DisplayName("User search p99 latency should stay below the target at one million users, also for broad terms")
+    void search_AtOneMillionUsers_MeetsP99Target() throws Exception {
+        String sql = UserRepository.class
+                .getMethod("search", String.class, String.class, int.class, int.class, long.class)
+                .getAnnotation(Query.class)
+                .value()
+                .replaceAll(":\\w+", "?");
+        List<String> terms = sampleSearchTerms();
+        for (int i = 0; i < BROAD_TERM_REPEATS; i++) {
+            terms.addAll(BROAD_TERMS);
+        }
+
+        Duration p99;
+        Duration broadP99;
+        try (Connection connection = connect(); PreparedStatement statement = connection.prepareStatement(sql)) {
+            p99 = measure(statement, terms, "mixed terms");
+            broadP99 = measure(statement, BROAD_TERMS, "broad terms");
+        }
+
+        assertThat(p99).isLessThan(P99_TARGET);
+        assertThat(broadP99).isLessThan(P99_TARGET);
+    }
+
+    private static Duration measure(PreparedStatement statement, List<String> terms, String label) throws SQLException {
+        Random random = new Random(42);
+        long[] latencies = new long[MEASURED_QUERIES];
+        for (int i = 0; i < WARMUP_QUERIES + MEASURED_QUERIES; i++) {
+            String term = terms.get(random.nextInt(terms.size()));
+            long started = System.nanoTime();
+            search(statement, term);
+            long elapsed = System.nanoTime() - started;
+            if (i >= WARMUP_QUERIES) {
+                latencies[i - WARMUP_QUERIES] = elapsed;
+            }
+        }
+
+        Arrays.sort(latencies);
+        Duration p99 = percentile(latencies, 0.99);
+        log.info("User search over {} users, {}: p50={} ms, p95={} ms, p99={} ms, max={} ms",
+                USER_COUNT, label, percentile(latencies, 0.50).toMillis(), percentile(latencies, 0.95).toMillis(),
+                p99.toMillis(), Duration.ofNanos(latencies[latencies.length - 1]).toMillis());
+        return p99;
+    }
+
+    // Parameters in the order they appear in the query: query, pattern, candidates, limit, offset
+    private static void search(PreparedStatement statement, String term) throws SQLException {
+        statement.setString(1, term);
+        statement.setString(2, "%" + term + "%");
+        statement.setInt(3, CANDIDATES);
+        statement.setInt(4, PAGE_SIZE + 1);
+        statement.setLong(5, 0);
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                resultSet.getString("username");
+            }
+        }
+    }
+
+    // A part of a username, the local part of an email, or a first and last name
+    private static List<String> sampleSearchTerms() throws SQLException {
+        List<String> terms = new ArrayList<>();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT username, email, first_name, last_name FROM users ORDER BY random() LIMIT 300")) {
+            while (resultSet.next()) {
+                String username = resultSet.getString("username");
+                String email = resultSet.getString("email");
+                terms.add(username.substring(username.length() - 6));
+                terms.add(email.substring(0, email.indexOf('@')));
+                terms.add((resultSet.getString("first_name") + " " + resultSet.getString("last_name"))
+                        .toLowerCase(Locale.ROOT));
+            }
+        }
+        return terms;
+    }
+
+    private static Duration percentile(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return Duration.ofNanos(sortedNanos[Math.max(index, 0)]);
+    }
+
+    private static String sqlArray(String[] values) {
+        return "ARRAY['" + String.join("','", values) + "']";
+    }
+
+    private static Flyway flyway(String target) {
+        var configuration = Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration");
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
@@ -0,0 +1,191 @@
+package com.devoops.user.security;
+
+import com.devoops.user.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private MeterRegistry meterRegistry;
+    private CountDownLatch release;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should hash and verify passwords on the worker pool and record durations")
+    void encodeAndMatches_WithFreePool_DelegatesAndRecordsMetrics() {
+        // Given
+        encoder = new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(4), executor(1, 4), Duration.ofSeconds(5), meterRegistry);
+
+        // When
+        String hash = encoder.encode("password123");
+
+        // Then
+        assertThat(encoder.matches("password123", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject immediately when the queue is full")
+    void encode_WithSaturatedPool_ThrowsServiceOverloadedException() throws InterruptedException {
+        // Given - one busy worker and one queued task
+        ThreadPoolExecutor executor = executor(1, 1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(), executor, Duration.ofSeconds(5), meterRegistry);
+        CompletableFuture.runAsync(() -> encoder.encode("first"));
+        CompletableFuture.runAsync(() -> encoder.encode("second"));
+        awaitSaturation(executor);
+
+        // When/Then
+        assertThatThrownBy(() -> encoder.encode("third"))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .hasMessageContaining("Too many concurrent authentication requests");
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should give up when no worker picks the task up within the timeout")
+    void matches_WhenQueuedPastTimeout_ThrowsServiceOverloadedException() throws InterruptedException {
+        // Given - the only worker is busy
+        ThreadPoolExecutor executor = executor(1, 4);
+        AtomicInteger hashed = new AtomicInteger();
+        encoder = new BoundedPasswordEncoder(
+                blockingEncoder(hashed), executor, Duration.ofMillis(50), meterRegistry);
+        CompletableFuture.runAsync(() -> encoder.encode("first"));
+        awaitBusyWorker(executor);
+
+        // When/Then
+        assertThatThrownBy(() -> encoder.matches("password123", "hash"))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("reason", "timeout").counter().count())
+                .isEqualTo(1);
+        assertThat(executor.getQueue()).isEmpty();
+        assertThat(hashed).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should wait for a hash that started within the timeout, however long it takes")
+    void matches_WhenHashingOutlastsTimeout_ReturnsResult() {
+        // Given - a free worker and hashing that takes longer than the queue timeout
+        encoder = new BoundedPasswordEncoder(
+                slowEncoder(Duration.ofMillis(200)), executor(1, 4), Duration.ofMillis(50), meterRegistry);
+
+        // When
+        boolean matches = encoder.matches("password123", "hash");
+
+        // Then
+        assertThat(matches).isTrue();
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("reason", "timeout").counter().count())
+                .isZero();
+    }
+
+    private static ThreadPoolExecutor executor(int threads, int queueCapacity) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static void awaitBusyWorker(ThreadPoolExecutor executor) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getActiveCount() < 1) {
+            assertThat(System.nanoTime()).as("worker busy in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitSaturation(ThreadPoolExecutor executor) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getActiveCount() < 1 || executor.getQueue().size() < 1) {
+            assertThat(System.nanoTime()).as("pool saturated in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return blockingEncoder(new AtomicInteger());
+    }
+
+    private PasswordEncoder blockingEncoder(AtomicInteger hashed) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                hashed.incrementAndGet();
+                awaitRelease();
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                hashed.incrementAndGet();
+                awaitRelease();
+                return true;
+            }
+        };
+    }
+
+    private static PasswordEncoder slowEncoder(Duration hashingTime) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                sleep(hashingTime);
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                sleep(hashingTime);
+                return true;
+            }
+        };
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,14 +2,16 @@ package com.devoops.user.security;
 
 import com.devoops.user.entity.Role;
 import com.devoops.user.entity.User;
+import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JwtServiceTest {
 
@@ -22,9 +24,7 @@ class JwtServiceTest {
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService();
-        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
-        ReflectionTestUtils.setField(jwtService, "jwtExpiration", EXPIRATION_TIME);
+        jwtService = new JwtService(SECRET_KEY, EXPIRATION_TIME);
 
         user = User.builder()
                 .id(UUID.randomUUID())
@@ -97,9 +97,7 @@ class JwtServiceTest {
     @DisplayName("Should throw exception for expired token")
     void isTokenExpired_WithExpiredToken_ThrowsExpiredJwtException() {
         // Given - Create a service with very short expiration
-        JwtService shortExpiryService = new JwtService();
-        ReflectionTestUtils.setField(shortExpiryService, "secretKey", SECRET_KEY);
-        ReflectionTestUtils.setField(shortExpiryService, "jwtExpiration", -1000L); // Already expired
+        JwtService shortExpiryService = new JwtService(SECRET_KEY, -1000L); // Already expired
 
         String token = shortExpiryService.generateToken(user);
 
@@ -136,4 +134,49 @@ class JwtServiceTest {
         assertThat(email).isEqualTo("test@example.com");
         assertThat(role).isEqualTo("GUEST");
     }
+
+    @Test
+    @DisplayName("Should reject token signed with a different secret")
+    void extractUsername_WithForeignSignature_ThrowsSignatureException() {
+        // Given
+        JwtService otherService = new JwtService(
+                "YW5vdGhlciB2ZXJ5IHNlY3VyZSBrZXkgZm9yIEhTMjU2IHRoYXQgaXMgYXQgbGVhc3QgMjU2IGJpdHM=",
+                EXPIRATION_TIME
+        );
+        String foreignToken = otherService.generateToken(user);
+
+        // When/Then
+        assertThatThrownBy(() -> jwtService.extractUsername(foreignToken))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("Should expose all claims from a single parse")
+    void parseToken_WithValidToken_ReturnsAllClaims() {
+        // Given
+        String token = jwtService.generateToken(user);
+
+        // When
+        ValidatedToken validatedToken = jwtService.parseToken(token);
+
+        // Then
+        assertThat(validatedToken.subject()).isEqualTo("testuser");
+        assertThat(validatedToken.userId()).isEqualTo(user.getId());
+        assertThat(validatedToken.email()).isEqualTo("test@example.com");
+        assertThat(validatedToken.role()).isEqualTo("GUEST");
+        assertThat(validatedToken.isExpired()).isFalse();
+        assertThat(validatedToken.isValidFor(user)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report expired token without parsing it again")
+    void validatedToken_WithPastExpiration_IsExpiredAndInvalid() {
+        // Given
+        ValidatedToken validatedToken = new ValidatedToken(
+                "testuser", user.getId(), "GUEST", "test@example.com", Instant.now().minusSeconds(1));
+
+        // When/Then
+        assertThat(validatedToken.isExpired()).isTrue();
+        assertThat(validatedToken.isValidFor(user)).isFalse();
+    }
 }
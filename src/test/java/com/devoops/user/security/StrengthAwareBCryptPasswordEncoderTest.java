@@ -0,0 +1,51 @@
+package com.devoops.user.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StrengthAwareBCryptPasswordEncoderTest {
+
+    private final StrengthAwareBCryptPasswordEncoder encoder = new StrengthAwareBCryptPasswordEncoder(5);
+
+    @Test
+    @DisplayName("Should not upgrade hash produced with the configured cost")
+    void upgradeEncoding_WithSameCost_ReturnsFalse() {
+        // Given
+        String hash = encoder.encode("password123");
+
+        // When/Then
+        assertThat(hash).startsWith("$2a$05$");
+        assertThat(encoder.matches("password123", hash)).isTrue();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should upgrade hash produced with a lower cost")
+    void upgradeEncoding_WithLowerCost_ReturnsTrue() {
+        // Given
+        String hash = new BCryptPasswordEncoder(4).encode("password123");
+
+        // When/Then
+        assertThat(encoder.upgradeEncoding(hash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should upgrade hash produced with a higher cost")
+    void upgradeEncoding_WithHigherCost_ReturnsTrue() {
+        // Given
+        String hash = new BCryptPasswordEncoder(6).encode("password123");
+
+        // When/Then
+        assertThat(encoder.matches("password123", hash)).isTrue();
+        assertThat(encoder.upgradeEncoding(hash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should upgrade anything that is not a BCrypt hash")
+    void upgradeEncoding_WithForeignHash_ReturnsTrue() {
+        assertThat(encoder.upgradeEncoding("not-a-bcrypt-hash")).isTrue();
+    }
+}
@@ -0,0 +1,237 @@
+package com.devoops.user.service;
+
+import com.devoops.user.dto.request.UserListFilter;
+import com.devoops.user.dto.response.AdminUserResponse;
+import com.devoops.user.dto.response.UserPageResponse;
+import com.devoops.user.dto.response.UserSearchResponse;
+import com.devoops.user.dto.response.UserSearchResult;
+import com.devoops.user.entity.Role;
+import com.devoops.user.exception.InvalidRequestParameterException;
+import com.devoops.user.repository.UserCursor;
+import com.devoops.user.repository.UserListingRepository;
+import com.devoops.user.repository.UserRepository;
+import com.devoops.user.repository.projection.UserSearchView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdminUserServiceTest {
+
+    private static final UserListFilter NO_FILTER = new UserListFilter(null, null);
+
+    @Mock
+    private UserListingRepository userListingRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private AdminUserService adminUserService;
+
+    @Nested
+    @DisplayName("listUsers Tests")
+    class ListUsersTests {
+
+        @Test
+        @DisplayName("Should return a cursor to the last user when another page follows")
+        void listUsers_WithMoreRows_ReturnsNextCursor() {
+            // Given
+            List<AdminUserResponse> rows = users(3);
+            when(userListingRepository.findPage(NO_FILTER, null, 3)).thenReturn(rows);
+
+            // When
+            UserPageResponse page = adminUserService.listUsers(NO_FILTER, null, 2);
+
+            // Then
+            assertThat(page.users()).containsExactlyElementsOf(rows.subList(0, 2));
+            assertThat(AdminUserService.decodeCursor(page.nextCursor()))
+                    .isEqualTo(new UserCursor(rows.get(1).createdAt(), rows.get(1).id()));
+        }
+
+        @Test
+        @DisplayName("Should return no cursor on the last page")
+        void listUsers_OnLastPage_ReturnsNullCursor() {
+            // Given
+            List<AdminUserResponse> rows = users(2);
+            when(userListingRepository.findPage(NO_FILTER, null, 3)).thenReturn(rows);
+
+            // When
+            UserPageResponse page = adminUserService.listUsers(NO_FILTER, null, 2);
+
+            // Then
+            assertThat(page.users()).containsExactlyElementsOf(rows);
+            assertThat(page.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should continue after the user named by the cursor")
+        void listUsers_WithCursor_PassesDecodedPosition() {
+            // Given
+            AdminUserResponse last = users(1).getFirst();
+            UserListFilter filter = new UserListFilter(Role.HOST, false);
+            when(userListingRepository.findPage(eq(filter), any(), eq(51))).thenReturn(List.of());
+
+            // When
+            adminUserService.listUsers(filter, AdminUserService.encodeCursor(last), 50);
+
+            // Then
+            verify(userListingRepository).findPage(filter, new UserCursor(last.createdAt(), last.id()), 51);
+        }
+
+        @Test
+        @DisplayName("Should clamp the page size to the supported range")
+        void listUsers_WithOutOfRangeLimit_ClampsPageSize() {
+            // Given
+            when(userListingRepository.findPage(eq(NO_FILTER), isNull(), anyInt())).thenReturn(List.of());
+
+            // When
+            adminUserService.listUsers(NO_FILTER, null, 100_000);
+            adminUserService.listUsers(NO_FILTER, null, 0);
+
+            // Then
+            verify(userListingRepository).findPage(NO_FILTER, null, AdminUserService.MAX_PAGE_SIZE + 1);
+            verify(userListingRepository).findPage(NO_FILTER, null, 2);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestParameterException for a malformed cursor")
+        void listUsers_WithMalformedCursor_ThrowsInvalidRequestParameterException() {
+            // When/Then
+            assertThatThrownBy(() -> adminUserService.listUsers(NO_FILTER, "not a cursor", 50))
+                    .isInstanceOf(InvalidRequestParameterException.class)
+                    .hasMessage("Invalid cursor");
+            verifyNoInteractions(userListingRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("exportUsers Tests")
+    class ExportUsersTests {
+
+        @Test
+        @DisplayName("Should pass every streamed user to the consumer")
+        void exportUsers_PassesEveryRowToConsumer() {
+            // Given
+            List<AdminUserResponse> rows = users(3);
+            doAnswer(invocation -> {
+                Consumer<AdminUserResponse> consumer = invocation.getArgument(1);
+                rows.forEach(consumer);
+                return null;
+            }).when(userListingRepository).forEach(eq(NO_FILTER), any());
+            List<AdminUserResponse> exported = new ArrayList<>();
+
+            // When
+            adminUserService.exportUsers(NO_FILTER, exported::add);
+
+            // Then
+            assertThat(exported).containsExactlyElementsOf(rows);
+        }
+    }
+
+    @Nested
+    @DisplayName("searchUsers Tests")
+    class SearchUsersTests {
+
+        @Test
+        @DisplayName("Should search with a lower-case contains pattern and map the hits")
+        void searchUsers_WithTerm_ReturnsRankedResults() {
+            // Given
+            UserSearchView hit = searchHit("jsmith", 0.8);
+            when(userRepository.search("smith", "%smith%", AdminUserService.MAX_SEARCH_CANDIDATES, 21, 0L)).thenReturn(List.of(hit));
+
+            // When
+            UserSearchResponse response = adminUserService.searchUsers("  Smith ", 0, 20);
+
+            // Then
+            assertThat(response.results()).containsExactly(new UserSearchResult(hit.getId(), "jsmith",
+                    "jsmith@example.com", "John", "Smith", Role.HOST, 0.8));
+            assertThat(response.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should escape LIKE wildcards in the search term")
+        void searchUsers_WithWildcards_EscapesPattern() {
+            // Given
+            when(userRepository.search(any(), any(), anyInt(), anyInt(), anyLong())).thenReturn(List.of());
+
+            // When
+            adminUserService.searchUsers("50%_a\\b", 0, 20);
+
+            // Then
+            verify(userRepository).search("50%_a\\b", "%50\\%\\_a\\\\b%", AdminUserService.MAX_SEARCH_CANDIDATES, 21, 0L);
+        }
+
+        @Test
+        @DisplayName("Should report a following page and skip earlier pages")
+        void searchUsers_WithMoreHits_ReportsNextPage() {
+            // Given
+            when(userRepository.search("smith", "%smith%", AdminUserService.MAX_SEARCH_CANDIDATES, 3, 4L))
+                    .thenReturn(List.of(searchHit("a", 0.9), searchHit("b", 0.8), searchHit("c", 0.7)));
+
+            // When
+            UserSearchResponse response = adminUserService.searchUsers("smith", 2, 2);
+
+            // Then
+            assertThat(response.results()).extracting(UserSearchResult::username).containsExactly("a", "b");
+            assertThat(response.hasNext()).isTrue();
+            assertThat(response.page()).isEqualTo(2);
+            assertThat(response.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestParameterException for terms shorter than three characters")
+        void searchUsers_WithShortTerm_ThrowsInvalidRequestParameterException() {
+            // When/Then
+            assertThatThrownBy(() -> adminUserService.searchUsers(" ab ", 0, 20))
+                    .isInstanceOf(InvalidRequestParameterException.class)
+                    .hasMessageContaining("at least 3 characters");
+            verifyNoInteractions(userRepository);
+        }
+
+        private UserSearchView searchHit(String username, double score) {
+            UserSearchView hit = mock(UserSearchView.class);
+            lenient().when(hit.getId()).thenReturn(UUID.randomUUID());
+            lenient().when(hit.getUsername()).thenReturn(username);
+            lenient().when(hit.getEmail()).thenReturn(username + "@example.com");
+            lenient().when(hit.getFirstName()).thenReturn("John");
+            lenient().when(hit.getLastName()).thenReturn("Smith");
+            lenient().when(hit.getRole()).thenReturn("HOST");
+            lenient().when(hit.getScore()).thenReturn(score);
+            return hit;
+        }
+    }
+
+    private static List<AdminUserResponse> users(int count) {
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0, 0, 123_456_000);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new AdminUserResponse(UUID.randomUUID(), "user" + i, "user" + i + "@example.com",
+                        "First", "Last", "City", Role.GUEST, false, start.plusSeconds(i), start.plusSeconds(i)))
+                .toList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.devoops.user.service;
 
+import com.devoops.user.config.ReadYourWritesWindow;
 import com.devoops.user.dto.request.LoginRequest;
 import com.devoops.user.dto.request.RegisterRequest;
 import com.devoops.user.dto.response.AuthenticationResponse;
@@ -7,10 +8,14 @@ import com.devoops.user.dto.response.UserResponse;
 import com.devoops.user.entity.Role;
 import com.devoops.user.entity.User;
 import com.devoops.user.exception.InvalidCredentialsException;
+import com.devoops.user.exception.InvalidRequestParameterException;
 import com.devoops.user.exception.UserAlreadyExistsException;
 import com.devoops.user.mapper.UserMapper;
+import com.devoops.user.metrics.OperationTimer;
+import com.devoops.user.metrics.Outcome;
 import com.devoops.user.repository.UserRepository;
 import com.devoops.user.security.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -48,6 +54,17 @@ class AuthenticationServiceTest {
     @Mock
     private UserEventPublisherService userEventPublisherService;
 
+    @Mock
+    private AvailabilityService availabilityService;
+
+    @Mock
+    private ReadYourWritesWindow readYourWritesWindow;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OperationTimer operationTimer = new OperationTimer(meterRegistry);
+
     @InjectMocks
     private AuthenticationService authenticationService;
 
@@ -97,14 +114,12 @@ class AuthenticationServiceTest {
     class RegisterTests {
 
         @Test
-        @DisplayName("Should register user successfully")
+        @DisplayName("Should register user successfully with a single insert")
         void register_WithValidData_ReturnsAuthenticationResponse() {
             // Given
-            when(userRepository.existsByUsername(anyString())).thenReturn(false);
-            when(userRepository.existsByEmail(anyString())).thenReturn(false);
             when(userMapper.toEntity(any(RegisterRequest.class))).thenReturn(user);
             when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-            when(userRepository.save(any(User.class))).thenReturn(user);
+            when(userRepository.insertIfAbsent(any(User.class))).thenReturn(true);
             when(jwtService.generateToken(any(User.class))).thenReturn("jwt-token");
             when(jwtService.getExpirationTime()).thenReturn(86400000L);
             when(userMapper.toUserResponse(any(User.class))).thenReturn(userResponse);
@@ -119,16 +134,22 @@ class AuthenticationServiceTest {
             assertThat(response.user().username()).isEqualTo("testuser");
             assertThat(response.user().role()).isEqualTo(Role.GUEST);
 
-            verify(userRepository).existsByUsername("testuser");
-            verify(userRepository).existsByEmail("test@example.com");
-            verify(userRepository).save(any(User.class));
+            verify(userRepository).insertIfAbsent(user);
+            verify(userRepository, never()).existsByUsername(anyString());
+            verify(userRepository, never()).existsByEmail(anyString());
             verify(passwordEncoder).encode("password123");
+            verify(userEventPublisherService).publishUserCreated(user.getId(), "test@example.com");
+            assertThat(user.getId()).isNotNull();
+            assertThat(user.getPassword()).isEqualTo("encodedPassword");
         }
 
         @Test
         @DisplayName("Should throw exception when username already exists")
         void register_WithExistingUsername_ThrowsUserAlreadyExistsException() {
             // Given
+            when(userMapper.toEntity(any(RegisterRequest.class))).thenReturn(user);
+            when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+            when(userRepository.insertIfAbsent(any(User.class))).thenReturn(false);
             when(userRepository.existsByUsername("testuser")).thenReturn(true);
 
             // When/Then
@@ -137,22 +158,42 @@ class AuthenticationServiceTest {
                     .hasMessageContaining("Username already taken");
 
             verify(userRepository).existsByUsername("testuser");
-            verify(userRepository, never()).save(any(User.class));
+            verifyNoInteractions(userEventPublisherService);
+            assertThat(timerCount("auth.register.insert", Outcome.SUCCESS)).isEqualTo(1);
+            assertThat(timerCount("auth.register", Outcome.CONFLICT)).isEqualTo(1);
         }
 
         @Test
         @DisplayName("Should throw exception when email already exists")
         void register_WithExistingEmail_ThrowsUserAlreadyExistsException() {
             // Given
-            when(userRepository.existsByUsername(anyString())).thenReturn(false);
-            when(userRepository.existsByEmail("test@example.com")).thenReturn(true);
+            when(userMapper.toEntity(any(RegisterRequest.class))).thenReturn(user);
+            when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+            when(userRepository.insertIfAbsent(any(User.class))).thenReturn(false);
+            when(userRepository.existsByUsername("testuser")).thenReturn(false);
 
             // When/Then
             assertThatThrownBy(() -> authenticationService.register(registerRequest))
                     .isInstanceOf(UserAlreadyExistsException.class)
                     .hasMessageContaining("Email already registered");
 
-            verify(userRepository, never()).save(any(User.class));
+            verifyNoInteractions(userEventPublisherService);
+        }
+
+        @Test
+        @DisplayName("Should reject registrations asking for the ADMIN role")
+        void register_WithAdminRole_ThrowsInvalidRequestParameterException() {
+            // Given
+            RegisterRequest adminRequest = new RegisterRequest(
+                    "testuser", "password123", "test@example.com", "Test", "User", "Belgrade", Role.ADMIN);
+
+            // When/Then
+            assertThatThrownBy(() -> authenticationService.register(adminRequest))
+                    .isInstanceOf(InvalidRequestParameterException.class)
+                    .hasMessage("Role must be HOST or GUEST");
+
+            verifyNoInteractions(userRepository, passwordEncoder, userEventPublisherService);
+            assertThat(timerCount("auth.register", Outcome.REJECTED)).isEqualTo(1);
         }
     }
 
@@ -164,7 +205,7 @@ class AuthenticationServiceTest {
         @DisplayName("Should login user successfully with username")
         void login_WithValidCredentials_ReturnsAuthenticationResponse() {
             // Given
-            when(userRepository.findByUsernameOrEmail("testuser", "testuser"))
+            when(userRepository.findActiveByUsernameIgnoreCase("testuser"))
                     .thenReturn(Optional.of(user));
             when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
             when(jwtService.generateToken(any(User.class))).thenReturn("jwt-token");
@@ -180,6 +221,10 @@ class AuthenticationServiceTest {
             assertThat(response.user().username()).isEqualTo("testuser");
 
             verify(passwordEncoder).matches("password123", "encodedPassword");
+            assertThat(timerCount("auth.login", Outcome.SUCCESS)).isEqualTo(1);
+            assertThat(timerCount("auth.login.lookup", Outcome.SUCCESS)).isEqualTo(1);
+            assertThat(timerCount("auth.login.password", Outcome.SUCCESS)).isEqualTo(1);
+            assertThat(timerCount("auth.token", Outcome.SUCCESS)).isEqualTo(1);
         }
 
         @Test
@@ -187,7 +232,7 @@ class AuthenticationServiceTest {
         void login_WithEmail_ReturnsAuthenticationResponse() {
             // Given
             LoginRequest emailLoginRequest = new LoginRequest("test@example.com", "password123");
-            when(userRepository.findByUsernameOrEmail("test@example.com", "test@example.com"))
+            when(userRepository.findActiveByEmailIgnoreCase("test@example.com"))
                     .thenReturn(Optional.of(user));
             when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
             when(jwtService.generateToken(any(User.class))).thenReturn("jwt-token");
@@ -200,13 +245,76 @@ class AuthenticationServiceTest {
             // Then
             assertThat(response).isNotNull();
             assertThat(response.accessToken()).isEqualTo("jwt-token");
+            verify(userRepository, never()).findActiveByUsernameIgnoreCase(anyString());
+        }
+
+        @Test
+        @DisplayName("Should fall back to username lookup when no user has the email-like input as email")
+        void login_WithUsernameContainingAt_FallsBackToUsernameLookup() {
+            // Given
+            LoginRequest atLoginRequest = new LoginRequest("test@user", "password123");
+            when(userRepository.findActiveByEmailIgnoreCase("test@user")).thenReturn(Optional.empty());
+            when(userRepository.findActiveByUsernameIgnoreCase("test@user")).thenReturn(Optional.of(user));
+            when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+            when(jwtService.generateToken(any(User.class))).thenReturn("jwt-token");
+            when(jwtService.getExpirationTime()).thenReturn(86400000L);
+            when(userMapper.toUserResponse(any(User.class))).thenReturn(userResponse);
+
+            // When
+            AuthenticationResponse response = authenticationService.login(atLoginRequest);
+
+            // Then
+            assertThat(response.accessToken()).isEqualTo("jwt-token");
+            verify(userRepository).findActiveByEmailIgnoreCase("test@user");
+            verify(userRepository).findActiveByUsernameIgnoreCase("test@user");
+        }
+
+        @Test
+        @DisplayName("Should re-hash and save password when stored hash is outdated")
+        void login_WithOutdatedHash_RehashesPassword() {
+            // Given
+            when(userRepository.findActiveByUsernameIgnoreCase("testuser"))
+                    .thenReturn(Optional.of(user));
+            when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+            when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+            when(passwordEncoder.encode("password123")).thenReturn("{bcrypt}rehashed");
+            when(jwtService.generateToken(any(User.class))).thenReturn("jwt-token");
+            when(jwtService.getExpirationTime()).thenReturn(86400000L);
+            when(userMapper.toUserResponse(any(User.class))).thenReturn(userResponse);
+
+            // When
+            authenticationService.login(loginRequest);
+
+            // Then
+            assertThat(user.getPassword()).isEqualTo("{bcrypt}rehashed");
+            verify(userRepository).save(user);
+        }
+
+        @Test
+        @DisplayName("Should not re-hash password when stored hash is current")
+        void login_WithCurrentHash_DoesNotRehash() {
+            // Given
+            when(userRepository.findActiveByUsernameIgnoreCase("testuser"))
+                    .thenReturn(Optional.of(user));
+            when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+            when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(false);
+            when(jwtService.generateToken(any(User.class))).thenReturn("jwt-token");
+            when(jwtService.getExpirationTime()).thenReturn(86400000L);
+            when(userMapper.toUserResponse(any(User.class))).thenReturn(userResponse);
+
+            // When
+            authenticationService.login(loginRequest);
+
+            // Then
+            verify(passwordEncoder, never()).encode(anyString());
+            verify(userRepository, never()).save(any(User.class));
         }
 
         @Test
         @DisplayName("Should throw exception when user not found")
         void login_WithNonExistentUser_ThrowsInvalidCredentialsException() {
             // Given
-            when(userRepository.findByUsernameOrEmail(anyString(), anyString()))
+            when(userRepository.findActiveByUsernameIgnoreCase(anyString()))
                     .thenReturn(Optional.empty());
 
             // When/Then
@@ -215,13 +323,15 @@ class AuthenticationServiceTest {
                     .hasMessageContaining("Invalid username/email or password");
 
             verify(passwordEncoder, never()).matches(anyString(), anyString());
+            assertThat(timerCount("auth.login.lookup", Outcome.USER_NOT_FOUND)).isEqualTo(1);
+            assertThat(timerCount("auth.login", Outcome.INVALID_CREDENTIALS)).isEqualTo(1);
         }
 
         @Test
         @DisplayName("Should throw exception when password is incorrect")
         void login_WithWrongPassword_ThrowsInvalidCredentialsException() {
             // Given
-            when(userRepository.findByUsernameOrEmail("testuser", "testuser"))
+            when(userRepository.findActiveByUsernameIgnoreCase("testuser"))
                     .thenReturn(Optional.of(user));
             when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(false);
 
@@ -229,6 +339,17 @@ class AuthenticationServiceTest {
             assertThatThrownBy(() -> authenticationService.login(loginRequest))
                     .isInstanceOf(InvalidCredentialsException.class)
                     .hasMessageContaining("Invalid username/email or password");
+            assertThat(timerCount("auth.login.lookup", Outcome.SUCCESS)).isEqualTo(1);
+            assertThat(timerCount("auth.login.password", Outcome.INVALID_CREDENTIALS)).isEqualTo(1);
+            assertThat(timerCount("auth.login", Outcome.INVALID_CREDENTIALS)).isEqualTo(1);
+            verify(jwtService, never()).generateToken(any(User.class));
         }
     }
+
+    private long timerCount(String operation, String outcome) {
+        return meterRegistry.get(OperationTimer.METRIC_NAME)
+                .tags("operation", operation, "outcome", outcome)
+                .timer()
+                .count();
+    }
 }
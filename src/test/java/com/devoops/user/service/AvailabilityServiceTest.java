@@ -0,0 +1,200 @@
+package com.devoops.user.service;
+
+import com.devoops.user.dto.response.AvailabilityResponse;
+import com.devoops.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+    private AvailabilityService availabilityService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        availabilityService = new AvailabilityService(userRepository, transactionManager, meterRegistry, 0.01, 600_000, 0.5);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(userRepository.findAllNormalizedUsernames()).thenAnswer(invocation -> Stream.of("taken"));
+        when(userRepository.findAllNormalizedActiveEmails()).thenAnswer(invocation -> Stream.of("taken@example.com"));
+        availabilityService.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should answer definitely free values without querying the database")
+    void check_WithFreeValues_SkipsDatabase() {
+        // When
+        AvailabilityResponse response = availabilityService.check("newuser", "new@example.com");
+
+        // Then
+        assertThat(response.usernameAvailable()).isTrue();
+        assertThat(response.emailAvailable()).isTrue();
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
+        assertThat(meterRegistry.get("availability.bloom.lookups").tag("result", "definitely_free").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should confirm possible hits with the database, ignoring case")
+    void check_WithTakenValues_ConfirmsWithDatabase() {
+        // Given
+        when(userRepository.existsByUsername("Taken")).thenReturn(true);
+        when(userRepository.existsByEmail("TAKEN@example.com")).thenReturn(true);
+
+        // When
+        AvailabilityResponse response = availabilityService.check("Taken", " TAKEN@example.com ");
+
+        // Then
+        assertThat(response.usernameAvailable()).isFalse();
+        assertThat(response.emailAvailable()).isFalse();
+        assertThat(meterRegistry.get("availability.bloom.lookups").tag("result", "taken").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should count a possible hit the database rejects as a false positive")
+    void check_WithStaleEntry_CountsFalsePositive() {
+        // Given - the user was deleted after the filter was built
+        when(userRepository.existsByEmail("taken@example.com")).thenReturn(false);
+
+        // When
+        AvailabilityResponse response = availabilityService.check(null, "taken@example.com");
+
+        // Then
+        assertThat(response.usernameAvailable()).isNull();
+        assertThat(response.emailAvailable()).isTrue();
+        assertThat(meterRegistry.get("availability.bloom.lookups").tag("result", "false_positive").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should treat newly recorded values as taken")
+    void recordTaken_WithNewUsername_IsNoLongerDefinitelyFree() {
+        // Given
+        availabilityService.recordTaken("FreshUser", null);
+        when(userRepository.existsByUsername("freshuser")).thenReturn(true);
+
+        // When
+        AvailabilityResponse response = availabilityService.check("freshuser", null);
+
+        // Then
+        assertThat(response.usernameAvailable()).isFalse();
+        verify(userRepository).existsByUsername("freshuser");
+    }
+
+    @Test
+    @DisplayName("Should keep values recorded while a rebuild reads its snapshot")
+    void rebuild_WithRegistrationDuringSnapshot_KeepsRecordedValue() {
+        // Given - a registration lands between the two snapshot queries and is missing from both
+        when(userRepository.findAllNormalizedActiveEmails()).thenAnswer(invocation -> {
+            availabilityService.recordTaken("RacingUser", "racing@example.com");
+            return Stream.of("taken@example.com");
+        });
+        when(userRepository.existsByUsername("racinguser")).thenReturn(true);
+        when(userRepository.existsByEmail("racing@example.com")).thenReturn(true);
+
+        // When
+        availabilityService.rebuild();
+        AvailabilityResponse response = availabilityService.check("racinguser", "racing@example.com");
+
+        // Then
+        assertThat(response.usernameAvailable()).isFalse();
+        assertThat(response.emailAvailable()).isFalse();
+        verify(userRepository).existsByUsername("racinguser");
+        verify(userRepository).existsByEmail("racing@example.com");
+    }
+
+    @Test
+    @DisplayName("Should stream the snapshot in one read-only transaction and close the streams")
+    void rebuild_ReadsSnapshotInReadOnlyTransaction() {
+        // Given
+        AtomicBoolean usernamesClosed = new AtomicBoolean();
+        AtomicBoolean emailsClosed = new AtomicBoolean();
+        when(userRepository.findAllNormalizedUsernames())
+                .thenAnswer(invocation -> Stream.of("taken").onClose(() -> usernamesClosed.set(true)));
+        when(userRepository.findAllNormalizedActiveEmails())
+                .thenAnswer(invocation -> Stream.of("taken@example.com").onClose(() -> emailsClosed.set(true)));
+
+        // When
+        availabilityService.rebuild();
+
+        // Then - one transaction in setUp, one for this rebuild
+        verify(transactionManager, times(2)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(usernamesClosed).isTrue();
+        assertThat(emailsClosed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not rebuild fresh filters that still have room")
+    void rebuildIfStale_WithFreshFilters_SkipsRebuild() {
+        // When
+        availabilityService.rebuildIfStale();
+
+        // Then - only the rebuild in setUp
+        verify(userRepository, times(1)).findAllNormalizedUsernames();
+    }
+
+    @Test
+    @DisplayName("Should rebuild filters older than the maximum age")
+    void rebuildIfStale_WithExpiredFilters_ReloadsFromDatabase() {
+        // Given
+        availabilityService = new AvailabilityService(userRepository, transactionManager, meterRegistry, 0.01, 0, 0.5);
+        availabilityService.rebuild();
+
+        // When
+        availabilityService.rebuildIfStale();
+
+        // Then - one rebuild in setUp, one for the new service, one because of its age
+        verify(userRepository, times(3)).findAllNormalizedUsernames();
+    }
+
+    @Test
+    @DisplayName("Should rebuild filters fuller than the maximum fill ratio")
+    void rebuildIfStale_WithFullFilters_ReloadsFromDatabase() {
+        // Given
+        availabilityService = new AvailabilityService(userRepository, transactionManager, meterRegistry, 0.01, 600_000, 0.0);
+        availabilityService.rebuild();
+
+        // When
+        availabilityService.rebuildIfStale();
+
+        // Then
+        verify(userRepository, times(3)).findAllNormalizedUsernames();
+    }
+
+    @Test
+    @DisplayName("Should export fill ratio and expected false-positive rate per filter")
+    void gauges_AfterRebuild_ReportFilterState() {
+        assertThat(meterRegistry.get("availability.bloom.fill.ratio").tag("filter", "username").gauge().value())
+                .isGreaterThan(0).isLessThan(0.01);
+        assertThat(meterRegistry.get("availability.bloom.false.positive.rate").tag("filter", "email").gauge().value())
+                .isGreaterThanOrEqualTo(0).isLessThan(0.01);
+    }
+}
@@ -0,0 +1,126 @@
+package com.devoops.user.service;
+
+import com.devoops.user.entity.OutboxEvent;
+import com.devoops.user.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final long CONFIRM_TIMEOUT_MS = 1000L;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations rabbitOperations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+    private OutboxRelayService outboxRelayService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelayService = new OutboxRelayService(
+                outboxEventRepository, rabbitTemplate, transactionManager, meterRegistry, BATCH_SIZE, CONFIRM_TIMEOUT_MS);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitOperations));
+    }
+
+    @Test
+    @DisplayName("Should publish, await confirms and delete a batch until the outbox is drained")
+    void relayPendingEvents_WithPendingEvents_PublishesConfirmsAndDeletes() {
+        // Given
+        List<OutboxEvent> fullBatch = List.of(event(1L), event(2L));
+        List<OutboxEvent> lastBatch = List.of(event(3L));
+        when(outboxEventRepository.lockNextBatch(BATCH_SIZE)).thenReturn(fullBatch, lastBatch);
+
+        // When
+        outboxRelayService.relayPendingEvents();
+
+        // Then
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitOperations, times(3)).send(eq("notification.exchange"), eq("user.created"), captor.capture());
+        verify(rabbitOperations, times(2)).waitForConfirmsOrDie(CONFIRM_TIMEOUT_MS);
+        verify(outboxEventRepository).deleteAllInBatch(fullBatch);
+        verify(outboxEventRepository).deleteAllInBatch(lastBatch);
+        verify(transactionManager, times(2)).commit(any());
+
+        Message message = captor.getAllValues().getFirst();
+        assertThat(new String(message.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"userId\":\"1\"}");
+        assertThat(message.getMessageProperties().<String>getHeader(OutboxRelayService.TYPE_ID_HEADER))
+                .isEqualTo("com.devoops.user.dto.message.UserCreatedMessage");
+        assertThat(meterRegistry.get("outbox.events.published").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep events in the outbox when the broker does not confirm them")
+    void relayPendingEvents_WhenConfirmTimesOut_RollsBackAndKeepsEvents() {
+        // Given
+        when(outboxEventRepository.lockNextBatch(BATCH_SIZE)).thenReturn(List.of(event(1L)));
+        doThrow(new AmqpTimeoutException("no confirm")).when(rabbitOperations).waitForConfirmsOrDie(CONFIRM_TIMEOUT_MS);
+
+        // When
+        outboxRelayService.relayPendingEvents();
+
+        // Then
+        verify(outboxEventRepository, never()).deleteAllInBatch(anyList());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertThat(meterRegistry.get("outbox.relay.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not touch the broker when the outbox is empty")
+    void relayPendingEvents_WithEmptyOutbox_DoesNotPublish() {
+        // Given
+        when(outboxEventRepository.lockNextBatch(BATCH_SIZE)).thenReturn(List.of());
+
+        // When
+        outboxRelayService.relayPendingEvents();
+
+        // Then
+        verifyNoInteractions(rabbitTemplate);
+        verify(outboxEventRepository, never()).deleteAllInBatch(anyList());
+    }
+
+    private static OutboxEvent event(long id) {
+        return OutboxEvent.builder()
+                .id(id)
+                .exchange("notification.exchange")
+                .routingKey("user.created")
+                .typeId("com.devoops.user.dto.message.UserCreatedMessage")
+                .payload("{\"userId\":\"" + id + "\"}")
+                .build();
+    }
+}
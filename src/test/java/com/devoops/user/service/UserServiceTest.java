@@ -1,8 +1,10 @@
 package com.devoops.user.service;
 
+import com.devoops.user.config.ReadYourWritesWindow;
 import com.devoops.user.dto.request.ChangePasswordRequest;
 import com.devoops.user.dto.request.UpdateUserRequest;
 import com.devoops.user.dto.response.AuthenticationResponse;
+import com.devoops.user.dto.response.UserBatchEntry;
 import com.devoops.user.dto.response.UserResponse;
 import com.devoops.user.entity.Role;
 import com.devoops.user.entity.User;
@@ -14,9 +16,13 @@ import com.devoops.user.grpc.AccommodationGrpcClient;
 import com.devoops.user.grpc.CascadeDeleteResult;
 import com.devoops.user.grpc.DeletionCheckResult;
 import com.devoops.user.grpc.ReservationGrpcClient;
+import com.devoops.user.grpc.UserSummaryCache;
 import com.devoops.user.mapper.UserMapper;
+import com.devoops.user.metrics.OperationTimer;
 import com.devoops.user.repository.UserRepository;
+import com.devoops.user.repository.projection.UserProfileView;
 import com.devoops.user.security.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,11 +30,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -57,6 +71,21 @@ class UserServiceTest {
     @Mock
     private AccommodationGrpcClient accommodationGrpcClient;
 
+    @Mock
+    private UserSummaryCache userSummaryCache;
+
+    @Mock
+    private AvailabilityService availabilityService;
+
+    @Spy
+    private ProfileCache profileCache = new ProfileCache(100, 60_000, new SimpleMeterRegistry(), JsonMapper.builder().build());
+
+    @Spy
+    private ReadYourWritesWindow readYourWritesWindow = new ReadYourWritesWindow(5_000);
+
+    @Spy
+    private OperationTimer operationTimer = new OperationTimer(new SimpleMeterRegistry());
+
     @InjectMocks
     private UserService userService;
 
@@ -106,42 +135,125 @@ class UserServiceTest {
                 .build();
     }
 
+    private UserProfileView profileOf(User user, LocalDateTime updatedAt) {
+        return new UserProfileView(user.getId(), user.getUsername(), user.getEmail(), user.getFirstName(),
+                user.getLastName(), user.getResidence(), user.getRole(), updatedAt);
+    }
+
     @Nested
-    @DisplayName("getProfile Tests")
-    class GetProfileTests {
+    @DisplayName("getProfileSnapshot Tests")
+    class GetProfileSnapshotTests {
 
         @Test
-        @DisplayName("Should return UserResponse when user exists")
-        void getProfile_WithValidUserId_ReturnsUserResponse() {
+        @DisplayName("Should return the serialized profile with an ETag when user exists")
+        void getProfileSnapshot_WithValidUserId_ReturnsSnapshot() {
             // Given
+            UserProfileView profile = profileOf(testUser, LocalDateTime.of(2026, 1, 1, 12, 0));
+            when(userRepository.findProfileById(testUserId)).thenReturn(Optional.of(profile));
+            when(userMapper.toUserResponse(profile)).thenReturn(userResponse);
+
+            // When
+            ProfileSnapshot result = userService.getProfileSnapshot(testUserId);
+
+            // Then
+            assertThat(result.etag()).matches("\"[0-9a-f]{32}\"");
+            assertThat(new String(result.body(), StandardCharsets.UTF_8))
+                    .contains("\"username\":\"testuser\"")
+                    .contains("\"email\":\"test@example.com\"");
+            verify(userRepository).findProfileById(testUserId);
+            verify(userRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should serve repeated reads from the cache until the profile changes")
+        void getProfileSnapshot_CalledTwice_ReadsDatabaseOnceAndReloadsAfterUpdate() {
+            // Given
+            when(userRepository.findProfileById(testUserId)).thenReturn(
+                    Optional.of(profileOf(testUser, LocalDateTime.of(2026, 1, 1, 12, 0))),
+                    Optional.of(profileOf(testUser, LocalDateTime.of(2026, 1, 2, 12, 0))));
+            when(userMapper.toUserResponse(any(UserProfileView.class))).thenReturn(userResponse);
             when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
-            when(userMapper.toUserResponse(testUser)).thenReturn(userResponse);
+            when(userRepository.save(any(User.class))).thenReturn(testUser);
 
             // When
-            UserResponse result = userService.getProfile(testUserId);
+            ProfileSnapshot first = userService.getProfileSnapshot(testUserId);
+            ProfileSnapshot cached = userService.getProfileSnapshot(testUserId);
+            userService.updateProfile(testUserId, new UpdateUserRequest(null, null, "New", null, null));
+            ProfileSnapshot reloaded = userService.getProfileSnapshot(testUserId);
 
             // Then
-            assertThat(result).isNotNull();
-            assertThat(result.username()).isEqualTo("testuser");
-            assertThat(result.email()).isEqualTo("test@example.com");
-            verify(userRepository).findById(testUserId);
-            verify(userMapper).toUserResponse(testUser);
+            assertThat(cached).isSameAs(first);
+            assertThat(reloaded.etag()).isNotEqualTo(first.etag());
+            verify(userRepository, times(2)).findProfileById(testUserId);
         }
 
         @Test
         @DisplayName("Should throw UserNotFoundException when user does not exist")
-        void getProfile_WithInvalidUserId_ThrowsUserNotFoundException() {
+        void getProfileSnapshot_WithInvalidUserId_ThrowsUserNotFoundException() {
             // Given
             UUID unknownId = UUID.randomUUID();
-            when(userRepository.findById(unknownId)).thenReturn(Optional.empty());
+            when(userRepository.findProfileById(unknownId)).thenReturn(Optional.empty());
 
             // When/Then
-            assertThatThrownBy(() -> userService.getProfile(unknownId))
+            assertThatThrownBy(() -> userService.getProfileSnapshot(unknownId))
                     .isInstanceOf(UserNotFoundException.class)
                     .hasMessageContaining("User does not exist");
         }
     }
 
+    @Nested
+    @DisplayName("streamProfiles Tests")
+    class StreamProfilesTests {
+
+        @Test
+        @DisplayName("Should stream found users first, then a 404 entry for each missing or malformed ID")
+        void streamProfiles_WithMixedIds_StreamsFoundThenNotFound() {
+            // Given
+            UUID missingId = UUID.randomUUID();
+            when(userRepository.streamProfilesByIdIn(any())).thenReturn(Stream.of(userResponse));
+            List<UserBatchEntry> entries = new ArrayList<>();
+
+            // When
+            userService.streamProfiles(
+                    List.of(missingId.toString(), "not-a-uuid", testUserId.toString()), entries::add);
+
+            // Then
+            assertThat(entries).containsExactly(
+                    UserBatchEntry.found(userResponse),
+                    UserBatchEntry.notFound(missingId.toString()),
+                    UserBatchEntry.notFound("not-a-uuid"));
+        }
+
+        @Test
+        @DisplayName("Should query each distinct ID once and answer duplicates once")
+        void streamProfiles_WithDuplicateIds_QueriesDistinctIds() {
+            // Given
+            when(userRepository.streamProfilesByIdIn(any())).thenReturn(Stream.of(userResponse));
+            List<UserBatchEntry> entries = new ArrayList<>();
+
+            // When
+            userService.streamProfiles(List.of(testUserId.toString(), testUserId.toString()), entries::add);
+
+            // Then
+            verify(userRepository).streamProfilesByIdIn(Set.of(testUserId));
+            assertThat(entries).containsExactly(UserBatchEntry.found(userResponse));
+        }
+
+        @Test
+        @DisplayName("Should not query the database when no ID is a valid UUID")
+        void streamProfiles_WithOnlyMalformedIds_SkipsQuery() {
+            // Given
+            List<UserBatchEntry> entries = new ArrayList<>();
+
+            // When
+            userService.streamProfiles(List.of("not-a-uuid"), entries::add);
+
+            // Then
+            verify(userRepository, never()).streamProfilesByIdIn(any());
+            assertThat(entries).containsExactly(UserBatchEntry.notFound("not-a-uuid"));
+        }
+    }
+
     @Nested
     @DisplayName("updateProfile Tests")
     class UpdateProfileTests {
@@ -166,6 +278,7 @@ class UserServiceTest {
             assertThat(result.accessToken()).isEqualTo("new-token");
             verify(userRepository).existsByUsername("newuser");
             verify(userRepository).save(testUser);
+            verify(userSummaryCache).invalidate(testUserId);
         }
 
         @Test
@@ -239,6 +352,27 @@ class UserServiceTest {
             verify(userRepository, never()).existsByUsername(anyString());
         }
 
+        @Test
+        @DisplayName("Should allow a case-only change of username and email without a uniqueness check")
+        void updateProfile_WithCaseOnlyChange_UpdatesWithoutCheck() {
+            // Given
+            when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+            UpdateUserRequest request = new UpdateUserRequest("TestUser", "Test@Example.com", null, null, null);
+            when(userRepository.save(any(User.class))).thenReturn(testUser);
+            when(jwtService.generateToken(any(User.class))).thenReturn("token");
+            when(jwtService.getExpirationTime()).thenReturn(86400000L);
+            when(userMapper.toUserResponse(any(User.class))).thenReturn(userResponse);
+
+            // When
+            userService.updateProfile(testUserId, request);
+
+            // Then
+            assertThat(testUser.getUsername()).isEqualTo("TestUser");
+            assertThat(testUser.getEmail()).isEqualTo("Test@Example.com");
+            verify(userRepository, never()).existsByUsername(anyString());
+            verify(userRepository, never()).existsByEmail(anyString());
+        }
+
         @Test
         @DisplayName("Should only update non-null fields")
         void updateProfile_WithNullFields_OnlyUpdatesNonNullFields() {
@@ -260,6 +394,20 @@ class UserServiceTest {
             verify(userRepository).save(testUser);
         }
 
+        @Test
+        @DisplayName("Should keep reads of the updated user on the primary for the read-your-writes window")
+        void updateProfile_OpensReadYourWritesWindow() {
+            // Given
+            when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+            when(userRepository.save(any(User.class))).thenReturn(testUser);
+
+            // When
+            userService.updateProfile(testUserId, new UpdateUserRequest(null, null, "UpdatedFirst", null, null));
+
+            // Then
+            verify(readYourWritesWindow).recordWrite(testUserId);
+        }
+
         @Test
         @DisplayName("Should throw UserNotFoundException when user does not exist")
         void updateProfile_WithNonExistentUser_ThrowsUserNotFoundException() {
@@ -347,6 +495,7 @@ class UserServiceTest {
             verify(userRepository).save(testUser);
             verify(reservationGrpcClient).checkGuestCanBeDeleted(testUserId);
             verify(accommodationGrpcClient, never()).deleteAccommodationsByHost(any());
+            verify(userSummaryCache).invalidate(testUserId);
         }
 
         @Test
@@ -364,6 +513,7 @@ class UserServiceTest {
 
             assertThat(testUser.isDeleted()).isFalse();
             verify(userRepository, never()).save(any());
+            verifyNoInteractions(userSummaryCache);
         }
 
         @Test
@@ -0,0 +1,61 @@
+package com.devoops.user.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Should report every added value as possibly present")
+    void mightContain_WithAddedValues_ReturnsTrue() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        // When
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i));
+
+        // Then
+        assertThat(IntStream.range(0, 10_000)).allMatch(i -> filter.mightContain("user" + i));
+    }
+
+    @Test
+    @DisplayName("Should keep the false-positive rate close to the configured rate when filled to capacity")
+    void mightContain_WithAbsentValues_StaysNearConfiguredRate() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i));
+
+        // When
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("absent" + i))
+                .count();
+
+        // Then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+        assertThat(filter.fillRatio()).isBetween(0.4, 0.6);
+    }
+
+    @Test
+    @DisplayName("Should start empty")
+    void create_NewFilter_IsEmpty() {
+        // When
+        BloomFilter filter = BloomFilter.create(100, 0.01);
+
+        // Then
+        assertThat(filter.mightContain("anything")).isFalse();
+        assertThat(filter.fillRatio()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing parameters")
+    void create_WithInvalidParameters_Throws() {
+        assertThatThrownBy(() -> BloomFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}